@@ -5,8 +5,10 @@ import com.gemora.auth.AuthenticationService;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class GemoraApplication {
     private final AuthenticationService authenticationService;
 
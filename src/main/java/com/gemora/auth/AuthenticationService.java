@@ -1,12 +1,14 @@
 package com.gemora.auth;
 
 import com.gemora.config.JwtService;
+import com.gemora.config.UserDetailsCache;
 import com.gemora.validation.exceptions.EmailAlreadyExistsException;
 import com.gemora.validation.exceptions.EmailValidationException;
 import com.gemora.user.Role;
 import com.gemora.user.UserRepository;
 import com.gemora.security.token.Token;
 import com.gemora.security.token.TokenRepository;
+import com.gemora.security.token.TokenStatusCache;
 import com.gemora.security.token.TokenType;
 import com.gemora.user.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,6 +27,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -36,6 +39,8 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenStatusCache tokenStatusCache;
+    private final UserDetailsCache userDetailsCache;
 
     @Value("${admin.firstname}")
     private String adminFirstName;
@@ -107,19 +112,17 @@ public class AuthenticationService {
                 .tokenType(TokenType.BEARER)
                 .expired(false)
                 .revoked(false)
+                .createdAt(LocalDateTime.now())
                 .build();
         tokenRepository.save(token);
     }
 
     private void revokeAllUserTokens(User user) {
-        var validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        if (validUserTokens.isEmpty())
+        int revokedTokens = tokenRepository.revokeAllValidTokensByUser(user.getId(), LocalDateTime.now());
+        if (revokedTokens == 0)
             return;
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
+        tokenStatusCache.revokeAll(user.getEmail());
+        userDetailsCache.evict(user.getEmail());
     }
 
     public void refreshToken(
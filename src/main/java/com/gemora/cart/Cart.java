@@ -0,0 +1,57 @@
+package com.gemora.cart;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class Cart {
+    public static final Cart EMPTY = new Cart(Map.of(), null);
+
+    private final Map<Integer, CartItem> items;
+    private final LocalDateTime updatedAt;
+
+    private Cart(Map<Integer, CartItem> items, LocalDateTime updatedAt) {
+        this.items = items;
+        this.updatedAt = updatedAt;
+    }
+
+    public static Cart of(Collection<CartItem> items, LocalDateTime updatedAt) {
+        Map<Integer, CartItem> copy = new LinkedHashMap<>();
+        items.forEach(item -> copy.put(item.getProductId(), new CartItem(item.getProductId(), item.getName(), item.getQuantity())));
+
+        return new Cart(Collections.unmodifiableMap(copy), updatedAt);
+    }
+
+    public Cart withItem(Integer productId, String name, int quantity, int maxQuantity) {
+        Map<Integer, CartItem> copy = new LinkedHashMap<>(items);
+        CartItem current = copy.get(productId);
+        int newQuantity = Math.min(maxQuantity, quantity + (current != null ? current.getQuantity() : 0));
+        copy.put(productId, new CartItem(productId, name, newQuantity));
+
+        return new Cart(Collections.unmodifiableMap(copy), LocalDateTime.now());
+    }
+
+    public Cart withoutItem(Integer productId) {
+        if (!items.containsKey(productId)) {
+            return this;
+        }
+
+        Map<Integer, CartItem> copy = new LinkedHashMap<>(items);
+        copy.remove(productId);
+
+        return new Cart(Collections.unmodifiableMap(copy), LocalDateTime.now());
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
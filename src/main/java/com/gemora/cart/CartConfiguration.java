@@ -0,0 +1,36 @@
+package com.gemora.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CartConfiguration {
+    @Bean
+    @ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+    public CartStore inMemoryCartStore(
+            MeterRegistry meterRegistry,
+            @Value("${cart.store.max-carts:100000}") long maxCarts,
+            @Value("${cart.store.idle-timeout-hours:72}") long idleTimeoutHours) {
+        return new InMemoryCartStore(meterRegistry, maxCarts, Duration.ofHours(idleTimeoutHours));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cart.write-behind.enabled", havingValue = "true")
+    public CartStore writeBehindCartStore(
+            MeterRegistry meterRegistry,
+            CartRepository cartRepository,
+            ObjectMapper objectMapper,
+            @Value("${cart.store.max-carts:100000}") long maxCarts,
+            @Value("${cart.store.idle-timeout-hours:72}") long idleTimeoutHours,
+            @Value("${cart.write-behind.batch-size:100}") int flushBatchSize) {
+        InMemoryCartStore carts = new InMemoryCartStore(meterRegistry, maxCarts, Duration.ofHours(idleTimeoutHours));
+
+        return new WriteBehindCartStore(carts, cartRepository, objectMapper, meterRegistry, flushBatchSize);
+    }
+}
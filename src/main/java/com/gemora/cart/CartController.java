@@ -0,0 +1,125 @@
+package com.gemora.cart;
+
+import com.gemora.product.ProductNotFoundException;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static com.gemora.validation.ValidationHelper.handleBindingResultErrors;
+
+@RestController
+@RequestMapping("/api/cart")
+public class CartController {
+    private static final String CART_ID_HEADER = "X-Cart-Id";
+    private static final Pattern CART_ID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final CartService cartService;
+
+    public CartController(CartService cartService) {
+        this.cartService = cartService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CartDto> getCart(Principal principal,
+                                           @RequestHeader(value = CART_ID_HEADER, required = false) String cartId) {
+        String cartKey = cartKey(principal, cartId);
+        if (cartKey == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(cartService.getCart(cartKey));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<String> addItem(Principal principal,
+                                          @RequestHeader(value = CART_ID_HEADER, required = false) String cartId,
+                                          @Valid @RequestBody CartItemRequest request,
+                                          BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return handleBindingResultErrors(bindingResult);
+        }
+
+        String issuedCartId = null;
+        if (principal == null && cartId == null) {
+            issuedCartId = UUID.randomUUID().toString();
+            cartId = issuedCartId;
+        }
+
+        String cartKey = cartKey(principal, cartId);
+        if (cartKey == null) {
+            return ResponseEntity.badRequest().body("Cart ID is invalid.");
+        }
+
+        try {
+            cartService.addItem(cartKey, request.getProductId(), request.getQuantity());
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (issuedCartId != null) {
+                response.header(CART_ID_HEADER, issuedCartId);
+            }
+            return response.body("Product added to cart.");
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<String> removeItem(Principal principal,
+                                             @RequestHeader(value = CART_ID_HEADER, required = false) String cartId,
+                                             @PathVariable int productId) {
+        String cartKey = cartKey(principal, cartId);
+        if (cartKey == null) {
+            return ResponseEntity.badRequest().body("Cart ID is missing or invalid.");
+        }
+
+        cartService.removeItem(cartKey, productId);
+        return ResponseEntity.ok("Product removed from cart.");
+    }
+
+    @PostMapping("/merge")
+    public ResponseEntity<String> mergeCart(Principal principal,
+                                            @RequestHeader(value = CART_ID_HEADER, required = false) String cartId) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!isValidCartId(cartId)) {
+            return ResponseEntity.badRequest().body("Cart ID is missing or invalid.");
+        }
+
+        cartService.mergeCarts(userCartKey(principal), guestCartKey(cartId));
+        return ResponseEntity.ok("Carts merged successfully.");
+    }
+
+    private static String cartKey(Principal principal, String cartId) {
+        if (principal != null) {
+            return userCartKey(principal);
+        }
+        return isValidCartId(cartId) ? guestCartKey(cartId) : null;
+    }
+
+    private static String userCartKey(Principal principal) {
+        return "user:" + principal.getName();
+    }
+
+    private static String guestCartKey(String cartId) {
+        return "guest:" + cartId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Guest carts are only reachable through their id, so ids are issued by the server as random UUIDs
+     * and anything else is rejected rather than used as a guessable cart key.
+     */
+    private static boolean isValidCartId(String cartId) {
+        return cartId != null && CART_ID_PATTERN.matcher(cartId).matches();
+    }
+}
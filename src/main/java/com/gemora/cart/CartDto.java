@@ -0,0 +1,15 @@
+package com.gemora.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartDto {
+    private List<CartLineDto> items;
+    private double totalAmount;
+}
@@ -0,0 +1,25 @@
+package com.gemora.cart;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "carts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartEntity {
+    @Id
+    @Column(name = "cart_key", length = 320)
+    private String cartKey;
+
+    @Column(length = 10000)
+    private String items;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
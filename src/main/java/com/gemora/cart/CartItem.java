@@ -0,0 +1,14 @@
+package com.gemora.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartItem {
+    private Integer productId;
+    private String name;
+    private int quantity;
+}
@@ -0,0 +1,18 @@
+package com.gemora.cart;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartItemRequest {
+    @NotNull(message = "Product ID cannot be null")
+    private Integer productId;
+
+    @Min(value = 1, message = "Quantity cannot be less than 1")
+    private int quantity = 1;
+}
@@ -0,0 +1,16 @@
+package com.gemora.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartLineDto {
+    private Integer productId;
+    private String name;
+    private int quantity;
+    private double unitPrice;
+    private double lineTotal;
+}
@@ -0,0 +1,8 @@
+package com.gemora.cart;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CartRepository extends JpaRepository<CartEntity, String> {
+}
@@ -0,0 +1,93 @@
+package com.gemora.cart;
+
+import com.gemora.product.ProductDto;
+import com.gemora.product.ProductNotFoundException;
+import com.gemora.product.ProductPriceCatalog;
+import com.gemora.product.ProductService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CartService {
+    private final CartStore cartStore;
+    private final ProductService productService;
+    private final ProductPriceCatalog productPriceCatalog;
+    private final int maxQuantity;
+    private final int maxItems;
+
+    public CartService(
+            CartStore cartStore,
+            ProductService productService,
+            ProductPriceCatalog productPriceCatalog,
+            @Value("${cart.max-quantity:99}") int maxQuantity,
+            @Value("${cart.max-items:50}") int maxItems) {
+        this.cartStore = cartStore;
+        this.productService = productService;
+        this.productPriceCatalog = productPriceCatalog;
+        this.maxQuantity = maxQuantity;
+        this.maxItems = maxItems;
+    }
+
+    public CartDto getCart(String cartKey) {
+        return toDto(cartStore.find(cartKey).orElse(Cart.EMPTY));
+    }
+
+    public CartDto addItem(String cartKey, int productId, int quantity) {
+        ProductDto product = productService.getProductById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product with id " + productId + " does not exist."));
+
+        Cart cart = cartStore.update(cartKey, current -> {
+            if (!current.getItems().containsKey(productId) && current.getItems().size() >= maxItems) {
+                throw new IllegalArgumentException("Cart cannot contain more than " + maxItems + " products.");
+            }
+            return current.withItem(productId, product.getName(), quantity, maxQuantity);
+        });
+
+        return toDto(cart);
+    }
+
+    public CartDto removeItem(String cartKey, int productId) {
+        return toDto(cartStore.update(cartKey, current -> current.withoutItem(productId)));
+    }
+
+    public CartDto mergeCarts(String targetCartKey, String sourceCartKey) {
+        Cart source = cartStore.find(sourceCartKey).orElse(Cart.EMPTY);
+        if (source.isEmpty()) {
+            return getCart(targetCartKey);
+        }
+
+        Cart merged = cartStore.update(targetCartKey, current -> {
+            Cart result = current;
+            for (CartItem item : source.getItems().values()) {
+                if (result.getItems().containsKey(item.getProductId()) || result.getItems().size() < maxItems) {
+                    result = result.withItem(item.getProductId(), item.getName(), item.getQuantity(), maxQuantity);
+                }
+            }
+            return result;
+        });
+        cartStore.delete(sourceCartKey);
+
+        return toDto(merged);
+    }
+
+    private CartDto toDto(Cart cart) {
+        List<CartLineDto> lines = new ArrayList<>(cart.getItems().size());
+        long totalCents = 0;
+
+        for (CartItem item : cart.getItems().values()) {
+            double price = productPriceCatalog.priceOf(item.getProductId());
+            if (Double.isNaN(price)) {
+                continue;
+            }
+
+            long lineCents = Math.round(price * 100) * item.getQuantity();
+            totalCents += lineCents;
+            lines.add(new CartLineDto(item.getProductId(), item.getName(), item.getQuantity(), price, lineCents / 100.0));
+        }
+
+        return new CartDto(lines, totalCents / 100.0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.gemora.cart;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+public interface CartStore {
+    Optional<Cart> find(String cartKey);
+
+    Cart update(String cartKey, UnaryOperator<Cart> updater);
+
+    void delete(String cartKey);
+}
@@ -0,0 +1,48 @@
+package com.gemora.cart;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+public class InMemoryCartStore implements CartStore {
+    private final Cache<String, Cart> carts;
+
+    public InMemoryCartStore(MeterRegistry meterRegistry, long maxCarts, Duration idleTimeout) {
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maxCarts)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, carts, "carts");
+    }
+
+    @Override
+    public Optional<Cart> find(String cartKey) {
+        return Optional.ofNullable(carts.getIfPresent(cartKey));
+    }
+
+    @Override
+    public Cart update(String cartKey, UnaryOperator<Cart> updater) {
+        Cart updated = carts.asMap().compute(cartKey, (key, cart) -> {
+            Cart result = updater.apply(cart != null ? cart : Cart.EMPTY);
+            return result.isEmpty() ? null : result;
+        });
+
+        return updated != null ? updated : Cart.EMPTY;
+    }
+
+    @Override
+    public void delete(String cartKey) {
+        carts.invalidate(cartKey);
+    }
+
+    void putIfAbsent(String cartKey, Cart cart) {
+        carts.asMap().putIfAbsent(cartKey, cart);
+    }
+}
@@ -0,0 +1,152 @@
+package com.gemora.cart;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+public class WriteBehindCartStore implements CartStore {
+    private static final Cart DELETED = Cart.of(List.of(), null);
+
+    private final InMemoryCartStore carts;
+    private final CartRepository cartRepository;
+    private final ObjectMapper objectMapper;
+    private final int flushBatchSize;
+    private final ConcurrentMap<String, Cart> pendingWrites = new ConcurrentHashMap<>();
+
+    public WriteBehindCartStore(
+            InMemoryCartStore carts,
+            CartRepository cartRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            int flushBatchSize) {
+        this.carts = carts;
+        this.cartRepository = cartRepository;
+        this.objectMapper = objectMapper;
+        this.flushBatchSize = flushBatchSize;
+
+        Gauge.builder("carts.write_behind.pending", pendingWrites, Map::size)
+                .description("Cart changes waiting to be written to the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Cart> find(String cartKey) {
+        Optional<Cart> cart = carts.find(cartKey);
+        if (cart.isPresent()) {
+            return cart;
+        }
+
+        Cart pending = pendingWrites.get(cartKey);
+        if (pending != null) {
+            return pending == DELETED ? Optional.empty() : Optional.of(pending);
+        }
+
+        return loadFromDatabase(cartKey);
+    }
+
+    @Override
+    public Cart update(String cartKey, UnaryOperator<Cart> updater) {
+        if (carts.find(cartKey).isEmpty() && !pendingWrites.containsKey(cartKey)) {
+            loadFromDatabase(cartKey);
+        }
+
+        return carts.update(cartKey, cart -> {
+            Cart updated = updater.apply(cart);
+            pendingWrites.put(cartKey, updated.isEmpty() ? DELETED : updated);
+            return updated;
+        });
+    }
+
+    @Override
+    public void delete(String cartKey) {
+        carts.update(cartKey, cart -> {
+            pendingWrites.put(cartKey, DELETED);
+            return Cart.EMPTY;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        List<String> keys = new ArrayList<>(pendingWrites.keySet());
+
+        for (int from = 0; from < keys.size(); from += flushBatchSize) {
+            Map<String, Cart> batch = new HashMap<>();
+            for (String key : keys.subList(from, Math.min(from + flushBatchSize, keys.size()))) {
+                Cart cart = pendingWrites.get(key);
+                if (cart != null) {
+                    batch.put(key, cart);
+                }
+            }
+
+            try {
+                writeBatch(batch);
+                batch.forEach((key, cart) -> pendingWrites.remove(key, cart));
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} carts to the database, will retry.", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void writeBatch(Map<String, Cart> batch) {
+        List<CartEntity> updatedCarts = new ArrayList<>();
+        List<String> deletedCarts = new ArrayList<>();
+
+        batch.forEach((key, cart) -> {
+            if (cart == DELETED) {
+                deletedCarts.add(key);
+            } else {
+                updatedCarts.add(new CartEntity(key, writeItems(cart), cart.getUpdatedAt()));
+            }
+        });
+
+        if (!updatedCarts.isEmpty()) {
+            cartRepository.saveAll(updatedCarts);
+        }
+        if (!deletedCarts.isEmpty()) {
+            cartRepository.deleteAllByIdInBatch(deletedCarts);
+        }
+    }
+
+    private Optional<Cart> loadFromDatabase(String cartKey) {
+        Optional<Cart> cart = cartRepository.findById(cartKey)
+                .map(entity -> Cart.of(readItems(entity.getItems()), entity.getUpdatedAt()));
+        cart.ifPresent(c -> carts.putIfAbsent(cartKey, c));
+
+        return cart;
+    }
+
+    private String writeItems(Cart cart) {
+        try {
+            return objectMapper.writeValueAsString(cart.getItems().values());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<CartItem> readItems(String items) {
+        try {
+            return objectMapper.readValue(items, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
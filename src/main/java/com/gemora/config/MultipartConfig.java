@@ -0,0 +1,23 @@
+package com.gemora.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class MultipartConfig {
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${product.image.max-upload-size:10MB}") DataSize maxUploadSize,
+            @Value("${product.image.file-size-threshold:256KB}") DataSize fileSizeThreshold) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(maxUploadSize);
+        factory.setMaxRequestSize(DataSize.ofBytes(maxUploadSize.toBytes() + DataSize.ofMegabytes(1).toBytes()));
+        factory.setFileSizeThreshold(fileSizeThreshold);
+
+        return factory.createMultipartConfig();
+    }
+}
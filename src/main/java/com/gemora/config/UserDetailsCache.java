@@ -0,0 +1,41 @@
+package com.gemora.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class UserDetailsCache {
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> users;
+
+    public UserDetailsCache(
+            UserDetailsService userDetailsService,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.user-details-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.user-details-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "user.details");
+    }
+
+    public UserDetails loadUserByUsername(String username) {
+        return users.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    public void evict(String username) {
+        users.invalidate(username);
+    }
+}
@@ -0,0 +1,62 @@
+package com.gemora.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class CheckoutBulkhead implements DisposableBean {
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Counter rejectedCheckouts;
+
+    public CheckoutBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${checkout.bulkhead.max-concurrent:16}") int maxConcurrent,
+            @Value("${checkout.bulkhead.queue-capacity:32}") int queueCapacity,
+            @Value("${checkout.timeout-ms:20000}") long timeoutMs) {
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrent,
+                maxConcurrent,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("checkout-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutMs = timeoutMs;
+        this.rejectedCheckouts = Counter.builder("checkout.bulkhead.rejected")
+                .description("Checkouts rejected because the checkout bulkhead was full")
+                .register(meterRegistry);
+
+        new ExecutorServiceMetrics(executor, "checkout", Collections.emptyList()).bindTo(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            rejectedCheckouts.increment();
+            return CompletableFuture.failedFuture(
+                    new CheckoutUnavailableException("Checkout is temporarily unavailable, please try again."));
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Checkout executor did not finish in time, {} checkouts dropped.", executor.shutdownNow().size());
+        }
+    }
+}
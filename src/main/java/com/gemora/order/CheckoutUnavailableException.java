@@ -0,0 +1,7 @@
+package com.gemora.order;
+
+public class CheckoutUnavailableException extends RuntimeException {
+    public CheckoutUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.gemora.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchRequest {
+    @Valid
+    @NotEmpty(message = "Orders cannot be empty")
+    private List<Order> orders;
+}
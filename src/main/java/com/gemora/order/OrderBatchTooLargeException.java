@@ -0,0 +1,7 @@
+package com.gemora.order;
+
+public class OrderBatchTooLargeException extends RuntimeException {
+    public OrderBatchTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -1,33 +1,49 @@
 package com.gemora.order;
 
+import com.gemora.payu.PayUException;
+import com.gemora.payu.PayUUnavailableException;
 import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 import static com.gemora.validation.ValidationHelper.handleBindingResultErrors;
 
 @RestController
 @RequestMapping("/api/orders")
+@Slf4j
 public class OrderController {
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderExportService orderExportService) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
     }
 
     @PostMapping
-    public ResponseEntity<String> createOrder(@RequestBody OrderCreateRequest request) {
-        OrderCreateResponse orderCreate = orderService.createOrder(request);
-
-        if (orderCreate.isSuccess()) {
-            return new ResponseEntity<>(orderCreate.getData(), HttpStatus.OK);
-        } else {
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+    public CompletableFuture<ResponseEntity<String>> createOrder(@RequestBody OrderCreateRequest request) {
+        return orderService.createOrder(request).handle((orderCreate, throwable) -> {
+            if (throwable != null) {
+                return handleCheckoutFailure(throwable);
+            }
+
+            if (orderCreate.isSuccess()) {
+                return new ResponseEntity<>(orderCreate.getData(), HttpStatus.OK);
+            } else {
+                return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        });
     }
 
     @PostMapping("/save-order")
@@ -45,11 +61,52 @@ public class OrderController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<String> saveOrders(@Valid @RequestBody OrderBatchRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return handleBindingResultErrors(bindingResult);
+        }
+
+        try {
+            int savedOrders = orderService.saveOrders(request.getOrders());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(savedOrders + " orders added successfully.");
+        } catch (OrderBatchTooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        List<OrderDto> allOrders = orderService.getAllOrders();
+    public ResponseEntity<List<OrderDto>> getAllOrders(OrderFilter filter,
+                                                       @RequestParam(required = false) Integer page,
+                                                       @RequestParam(required = false) Integer size) {
+        try {
+            List<OrderDto> allOrders = orderService.getAllOrders(filter, page, size);
 
-        return allOrders.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(allOrders);
+            return allOrders.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(allOrders);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(OrderFilter filter,
+                                                              @RequestParam(defaultValue = "csv") String format) {
+        OrderExportFormat exportFormat;
+        try {
+            exportFormat = OrderExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> orderExportService.exportOrders(filter, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + exportFormat.getFileExtension())
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -59,8 +116,20 @@ public class OrderController {
 
         return !userOrders.isEmpty() ? ResponseEntity.ok(userOrders) : ResponseEntity.notFound().build();
     }
-}
-
 
+    private ResponseEntity<String> handleCheckoutFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
 
+        if (cause instanceof CheckoutUnavailableException || cause instanceof PayUUnavailableException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(cause.getMessage());
+        } else if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body("Payment gateway did not respond in time.");
+        } else if (cause instanceof PayUException) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(cause.getMessage());
+        }
 
+        log.error("Checkout failed.", cause);
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
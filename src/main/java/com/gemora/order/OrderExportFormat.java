@@ -0,0 +1,22 @@
+package com.gemora.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum OrderExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public static OrderExportFormat from(String s) {
+        return switch (s) {
+            case "csv" -> CSV;
+            case "ndjson" -> NDJSON;
+            default -> throw new IllegalArgumentException("Unknown export format: " + s);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.gemora.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderExportRow {
+    private Integer orderId;
+    private LocalDateTime orderDateTime;
+    private Integer userId;
+    private String userEmail;
+    private double totalAmount;
+    private Integer productId;
+    private String productName;
+    private Integer quantity;
+    private Double price;
+}
@@ -0,0 +1,122 @@
+package com.gemora.order;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportService {
+    private static final String CSV_HEADER =
+            "order_id,order_date_time,user_id,user_email,total_amount,product_id,product_name,quantity,price";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.export.fetch-size:500}")
+    private int fetchSize = 500;
+
+    public OrderExportService(OrderRepository orderRepository, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderFilter filter, OrderExportFormat format, OutputStream outputStream) {
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(filter, fetchSize)) {
+            switch (format) {
+                case CSV -> writeCsv(rows.iterator(), outputStream);
+                case NDJSON -> writeNdjson(rows.iterator(), outputStream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Iterator<OrderExportRow> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            writer.write(String.join(",",
+                    csvValue(row.getOrderId()),
+                    csvValue(row.getOrderDateTime()),
+                    csvValue(row.getUserId()),
+                    csvValue(row.getUserEmail()),
+                    csvValue(row.getTotalAmount()),
+                    csvValue(row.getProductId()),
+                    csvValue(row.getProductName()),
+                    csvValue(row.getQuantity()),
+                    csvValue(row.getPrice())));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<OrderExportRow> rows, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+
+        List<OrderExportRow> orderRows = new ArrayList<>();
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!orderRows.isEmpty() && !orderRows.get(0).getOrderId().equals(row.getOrderId())) {
+                writeOrder(generator, orderRows);
+                orderRows.clear();
+            }
+            orderRows.add(row);
+        }
+        if (!orderRows.isEmpty()) {
+            writeOrder(generator, orderRows);
+        }
+        generator.flush();
+    }
+
+    private void writeOrder(JsonGenerator generator, List<OrderExportRow> orderRows) throws IOException {
+        OrderExportRow order = orderRows.get(0);
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", order.getOrderId());
+        generator.writeStringField("orderDateTime", order.getOrderDateTime() != null ? order.getOrderDateTime().toString() : null);
+        generator.writeObjectField("userId", order.getUserId());
+        generator.writeStringField("userEmail", order.getUserEmail());
+        generator.writeNumberField("totalAmount", order.getTotalAmount());
+        generator.writeArrayFieldStart("products");
+        for (OrderExportRow row : orderRows) {
+            if (row.getProductId() == null) {
+                continue;
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getProductId());
+            generator.writeStringField("name", row.getProductName());
+            generator.writeObjectField("quantity", row.getQuantity());
+            generator.writeObjectField("price", row.getPrice());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
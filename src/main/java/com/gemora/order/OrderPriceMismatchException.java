@@ -0,0 +1,7 @@
+package com.gemora.order;
+
+public class OrderPriceMismatchException extends RuntimeException {
+    public OrderPriceMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,21 @@
 package com.gemora.order;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Integer> {
+public interface OrderRepository extends JpaRepository<Order, Integer>, OrderRepositoryCustom {
+    @Override
+    @EntityGraph(attributePaths = {"products", "user"})
+    List<Order> findAll();
+
+    @EntityGraph(attributePaths = {"products", "user"})
     List<Order> findOrdersByUserId(Integer userId);
+
+    @EntityGraph(attributePaths = {"products", "user"})
+    List<Order> findAllByIdIn(Collection<Integer> ids);
 }
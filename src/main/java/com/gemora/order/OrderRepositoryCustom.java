@@ -0,0 +1,12 @@
+package com.gemora.order;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderRepositoryCustom {
+    List<Integer> findOrderIds(OrderFilter filter, int offset, int limit);
+
+    Stream<OrderExportRow> streamExportRows(OrderFilter filter, int fetchSize);
+
+    List<Order> saveAllInBatches(List<Order> orders, int batchSize);
+}
@@ -0,0 +1,108 @@
+package com.gemora.order;
+
+import com.gemora.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Integer> findOrderIds(OrderFilter filter, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+        Root<Order> order = query.from(Order.class);
+
+        query.select(order.get("id"))
+                .where(predicates(cb, order, filter))
+                .orderBy(cb.desc(order.get("orderDateTime")), cb.desc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<OrderExportRow> streamExportRows(OrderFilter filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderExportRow> query = cb.createQuery(OrderExportRow.class);
+        Root<Order> order = query.from(Order.class);
+        Join<Order, User> user = order.join("user", JoinType.LEFT);
+        Join<Order, OrderSimplifiedProduct> product = order.join("products", JoinType.LEFT);
+
+        query.select(cb.construct(OrderExportRow.class,
+                        order.get("id"),
+                        order.get("orderDateTime"),
+                        user.get("id"),
+                        user.get("email"),
+                        order.get("totalAmount"),
+                        product.get("id"),
+                        product.get("name"),
+                        product.get("quantity"),
+                        product.get("price")))
+                .where(predicates(cb, order, filter))
+                .orderBy(cb.asc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAllInBatches(List<Order> orders, int batchSize) {
+        for (int i = 0; i < orders.size(); i++) {
+            entityManager.persist(orders.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return orders;
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Order> order, OrderFilter filter) {
+        if (filter == null) {
+            return new Predicate[0];
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<LocalDateTime>get("orderDateTime"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(order.<LocalDateTime>get("orderDateTime"), filter.getTo()));
+        }
+        if (filter.getUserId() != null) {
+            predicates.add(cb.equal(order.get("user").get("id"), filter.getUserId()));
+        }
+        if (filter.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<Double>get("totalAmount"), filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(order.<Double>get("totalAmount"), filter.getMaxAmount()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
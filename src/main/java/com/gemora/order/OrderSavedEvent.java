@@ -0,0 +1,10 @@
+package com.gemora.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderSavedEvent {
+    private final Order order;
+}
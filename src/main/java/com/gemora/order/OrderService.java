@@ -1,17 +1,32 @@
 package com.gemora.order;
 
 import com.gemora.payu.*;
-import lombok.SneakyThrows;
+import com.gemora.product.ProductPriceCatalog;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 
 @Service
 public class OrderService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double PRICE_TOLERANCE = 0.005;
+
+    @Value("${order.batch.max-size:1000}")
+    private int maxBatchSize = 1000;
+
+    @Value("${hibernate.jdbc.batch-size:50}")
+    private int jdbcBatchSize = 50;
+
     private final OrderRepository orderRepository;
     @Value("${payu.customerIp}")
     private String customerIp;
@@ -23,15 +38,20 @@ public class OrderService {
     private String currencyCode;
 
     private final PayUService payUService;
+    private final CheckoutBulkhead checkoutBulkhead;
+    private final ProductPriceCatalog productPriceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrderService(OrderRepository orderRepository, PayUService payUService) {
+    public OrderService(OrderRepository orderRepository, PayUService payUService, CheckoutBulkhead checkoutBulkhead,
+                        ProductPriceCatalog productPriceCatalog, ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
         this.payUService = payUService;
-
+        this.checkoutBulkhead = checkoutBulkhead;
+        this.productPriceCatalog = productPriceCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
-    @SneakyThrows
-    public OrderCreateResponse createOrder(OrderCreateRequest orderCreateRequest) {
+    public CompletableFuture<OrderCreateResponse> createOrder(OrderCreateRequest orderCreateRequest) {
         String continueUrl = "http://localhost:3000/thank-you";
 
         CreateOrderPayURequest createOrderPayURequest = new CreateOrderPayURequest(
@@ -42,23 +62,69 @@ public class OrderService {
                 currencyCode,
                 orderCreateRequest.getTotalAmount());
 
-        String payURedirectUrl = payUService.initiatePayUPayment(createOrderPayURequest);
+        return checkoutBulkhead.submit(() -> payUService.initiatePayUPayment(createOrderPayURequest))
+                .thenApply(payURedirectUrl -> {
+                    if (payURedirectUrl.equals("")) {
+                        return new OrderCreateResponse(null, false);
+                    }
 
-        if (payURedirectUrl.equals("")) {
-            return new OrderCreateResponse(null, false);
-        }
-
-        return new OrderCreateResponse(payURedirectUrl, true);
+                    return new OrderCreateResponse(payURedirectUrl, true);
+                });
     }
 
     public void saveOrder(Order order) {
-        orderRepository.save(order);
+        verifyPrices(order);
+
+        Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderSavedEvent(savedOrder));
     }
 
-    public List<OrderDto> getAllOrders() {
-        List<Order> orders = orderRepository.findAll();
+    /**
+     * Imports already placed orders, for reconciliation and back-office use. Line prices are kept as recorded,
+     * even if the catalog price has changed or the product has been deleted since. Only the total is checked
+     * against the lines.
+     */
+    public int saveOrders(List<Order> orders) {
+        if (orders.size() > maxBatchSize) {
+            throw new OrderBatchTooLargeException("A batch can contain at most " + maxBatchSize + " orders.");
+        }
 
-        return orders.stream()
+        orders.forEach(this::verifyTotal);
+
+        List<Order> savedOrders = orderRepository.saveAllInBatches(orders, jdbcBatchSize);
+        savedOrders.forEach(order -> eventPublisher.publishEvent(new OrderSavedEvent(order)));
+
+        return savedOrders.size();
+    }
+
+    public List<OrderDto> getAllOrders(OrderFilter filter, Integer page, Integer size) {
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page number must not be negative.");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        long offset = (long) pageNumber * pageSize;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page number is too large.");
+        }
+
+        List<Integer> orderIds = orderRepository.findOrderIds(filter, (int) offset, pageSize);
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> positions = new HashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            positions.put(orderIds.get(i), i);
+        }
+
+        return orderRepository.findAllByIdIn(orderIds).stream()
+                .sorted(Comparator.comparing(order -> positions.get(order.getId())))
                 .map(OrderDto::new)
                 .collect(Collectors.toList());
     }
@@ -70,4 +136,43 @@ public class OrderService {
                 .map(OrderDto::new)
                 .collect(Collectors.toList());
     }
+
+    private void verifyPrices(Order order) {
+        double total = 0;
+        List<OrderSimplifiedProduct> products = order.getProducts() != null ? order.getProducts() : List.of();
+
+        for (OrderSimplifiedProduct product : products) {
+            double price = product.getId() != null ? productPriceCatalog.priceOf(product.getId()) : Double.NaN;
+            if (Double.isNaN(price)) {
+                throw new OrderPriceMismatchException("Product " + product.getId() + " does not exist.");
+            }
+            if (product.getPrice() == null || Math.abs(product.getPrice() - price) > PRICE_TOLERANCE) {
+                throw new OrderPriceMismatchException("Price of product " + product.getId() + " should be " + price + ".");
+            }
+            if (product.getQuantity() == null) {
+                throw new OrderPriceMismatchException("Quantity of product " + product.getId() + " is missing.");
+            }
+            total += price * product.getQuantity();
+        }
+
+        if (Math.abs(total - order.getTotalAmount()) > PRICE_TOLERANCE) {
+            throw new OrderPriceMismatchException("Total amount should be " + Math.round(total * 100) / 100.0 + ".");
+        }
+    }
+
+    private void verifyTotal(Order order) {
+        double total = 0;
+        List<OrderSimplifiedProduct> products = order.getProducts() != null ? order.getProducts() : List.of();
+
+        for (OrderSimplifiedProduct product : products) {
+            if (product.getPrice() == null || product.getQuantity() == null) {
+                throw new OrderPriceMismatchException("Price and quantity of product " + product.getId() + " are required.");
+            }
+            total += product.getPrice() * product.getQuantity();
+        }
+
+        if (Math.abs(total - order.getTotalAmount()) > PRICE_TOLERANCE) {
+            throw new OrderPriceMismatchException("Total amount should be " + Math.round(total * 100) / 100.0 + ".");
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.gemora.payu;
+
+public class PayUAuthorizationException extends PayUException {
+    public PayUAuthorizationException(String message) {
+        super(message);
+    }
+
+    public PayUAuthorizationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,128 @@
+package com.gemora.payu;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class PayUCircuitBreaker {
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final int halfOpenMaxCalls;
+
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+    private final Counter rejectedCalls;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private long openedAt;
+
+    public PayUCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${payu.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${payu.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${payu.circuit-breaker.half-open-max-calls:1}") int halfOpenMaxCalls) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("payu.circuit-breaker.transitions")
+                    .tag("state", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.rejectedCalls = Counter.builder("payu.circuit-breaker.rejected").register(meterRegistry);
+        Gauge.builder("payu.circuit-breaker.state", this, breaker -> breaker.state.ordinal())
+                .description("0 = closed, 1 = open, 2 = half open")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            if (isGatewayFailure(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.OPEN || (state == State.HALF_OPEN && halfOpenCalls >= halfOpenMaxCalls)) {
+            rejectedCalls.increment();
+            throw new PayUUnavailableException("Payment gateway is temporarily unavailable, please try again later.");
+        }
+
+        if (state == State.HALF_OPEN) {
+            halfOpenCalls++;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        log.warn("PayU circuit breaker changed from {} to {}", state, target);
+        state = target;
+        halfOpenCalls = 0;
+        if (target == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        } else if (target == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+        transitions.get(target).increment();
+    }
+
+    static boolean isGatewayFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -0,0 +1,11 @@
+package com.gemora.payu;
+
+public class PayUException extends RuntimeException {
+    public PayUException(String message) {
+        super(message);
+    }
+
+    public PayUException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
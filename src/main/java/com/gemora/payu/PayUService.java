@@ -2,13 +2,13 @@ package com.gemora.payu;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
@@ -16,13 +16,22 @@ public class PayUService {
     @Value("${payu.order-url}")
     private String orderUrl;
 
-    @Autowired
-    private PayUTokenService tokenService;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final PayUTokenService tokenService;
+    private final RestTemplate restTemplate;
+    private final PayUCircuitBreaker circuitBreaker;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public String initiatePayUPayment(CreateOrderPayURequest createOrderPayURequest) throws JsonProcessingException {
+    public PayUService(PayUTokenService tokenService, RestTemplate restTemplate, PayUCircuitBreaker circuitBreaker) {
+        this.tokenService = tokenService;
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public String initiatePayUPayment(CreateOrderPayURequest createOrderPayURequest) {
+        return circuitBreaker.execute(() -> createPayUOrder(createOrderPayURequest));
+    }
+
+    private String createPayUOrder(CreateOrderPayURequest createOrderPayURequest) {
         String token = tokenService.getToken();
 
         HttpHeaders headers = new HttpHeaders();
@@ -31,17 +40,25 @@ public class PayUService {
 
         HttpEntity<CreateOrderPayURequest> requestEntity = new HttpEntity<>(createOrderPayURequest, headers);
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                orderUrl,
-                requestEntity,
-                String.class
-        );
+        ResponseEntity<String> responseEntity;
+        try {
+            responseEntity = restTemplate.postForEntity(
+                    orderUrl,
+                    requestEntity,
+                    String.class
+            );
+        } catch (RestClientException e) {
+            throw new PayUException("PayU order request failed.", e);
+        }
 
         if (responseEntity.getStatusCode().is3xxRedirection()) {
             String jsonResponse = responseEntity.getBody();
-            PayUOrderCreateResponse response = objectMapper.readValue(jsonResponse, PayUOrderCreateResponse.class);
-
-            return response.getRedirectUri();
+            try {
+                PayUOrderCreateResponse response = objectMapper.readValue(jsonResponse, PayUOrderCreateResponse.class);
+                return response.getRedirectUri();
+            } catch (JsonProcessingException e) {
+                throw new PayUException("PayU order response could not be read.", e);
+            }
         }
         return "";
     }
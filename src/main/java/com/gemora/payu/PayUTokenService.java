@@ -1,30 +1,166 @@
 package com.gemora.payu;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.SneakyThrows;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
 @Service
+@Slf4j
 public class PayUTokenService {
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final String clientId;
+    private final String clientSecret;
+    private final String authorizationUrl;
+    private final Duration refreshSkew;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
 
-    @Value("${payu.client-id}")
-    private String clientId;
+    private final Counter tokenHits;
+    private final Counter tokenRefreshes;
+    private final Counter tokenRefreshFailures;
+    private final Counter tokenRetries;
 
-    @Value("${payu.client-secret}")
-    private String clientSecret;
+    public PayUTokenService(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payu.client-id}") String clientId,
+            @Value("${payu.client-secret}") String clientSecret,
+            @Value("${payu.authorization-uri}") String authorizationUrl,
+            @Value("${payu.token.refresh-skew-seconds:60}") long refreshSkewSeconds,
+            @Value("${payu.token.retry.max-attempts:3}") int maxAttempts,
+            @Value("${payu.token.retry.initial-backoff-ms:100}") long initialBackoffMs,
+            @Value("${payu.token.retry.max-backoff-ms:1000}") long maxBackoffMs) {
+        this.restTemplate = restTemplate;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.authorizationUrl = authorizationUrl;
+        this.refreshSkew = Duration.ofSeconds(refreshSkewSeconds);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
 
-    @Value("${payu.authorization-uri}")
-    private String authorizationUrl;
+        this.tokenHits = Counter.builder("payu.token.requests").tag("result", "hit").register(meterRegistry);
+        this.tokenRefreshes = Counter.builder("payu.token.requests").tag("result", "refresh").register(meterRegistry);
+        this.tokenRefreshFailures = Counter.builder("payu.token.requests").tag("result", "failure").register(meterRegistry);
+        this.tokenRetries = Counter.builder("payu.token.retries").register(meterRegistry);
+    }
 
-    @SneakyThrows
     public String getToken() {
+        CachedToken token = cachedToken;
+        if (token != null && token.isFresh(Instant.now())) {
+            tokenHits.increment();
+            return token.accessToken;
+        }
+
+        if (token != null && token.isValid(Instant.now())) {
+            if (!refreshLock.tryLock()) {
+                tokenHits.increment();
+                return token.accessToken;
+            }
+        } else {
+            refreshLock.lock();
+        }
+
+        try {
+            token = cachedToken;
+            if (token != null && token.isFresh(Instant.now())) {
+                tokenHits.increment();
+                return token.accessToken;
+            }
+            return refreshToken(token).accessToken;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CachedToken refreshToken(CachedToken currentToken) {
+        try {
+            CachedToken token = fetchToken();
+            cachedToken = token;
+            tokenRefreshes.increment();
+            return token;
+        } catch (RuntimeException e) {
+            tokenRefreshFailures.increment();
+            if (currentToken != null && currentToken.isValid(Instant.now())) {
+                log.warn("PayU token refresh failed, using the current token until it expires.", e);
+                return currentToken;
+            }
+            throw e instanceof PayUAuthorizationException ? e : new PayUAuthorizationException("PayU authorization failed.", e);
+        }
+    }
+
+    private CachedToken fetchToken() {
         String url = authorizationUrl + "?grant_type=client_credentials&client_id=" + clientId + "&client_secret=" + clientSecret;
-        final ResponseEntity<String> jsonResponse = restTemplate.postForEntity(url, null, String.class);
-        PayUAuthToken payUAuthToken = new ObjectMapper().readValue(jsonResponse.getBody(), PayUAuthToken.class);
-        return payUAuthToken.getAccessToken();
+        PayUAuthToken payUAuthToken = requestToken(url);
+
+        if (payUAuthToken == null || payUAuthToken.getAccessToken() == null) {
+            throw new PayUAuthorizationException("PayU authorization failed: " +
+                    (payUAuthToken != null ? payUAuthToken.getErrorDescription() : "empty response"));
+        }
+
+        Instant now = Instant.now();
+        Duration lifetime = Duration.ofSeconds(Math.max(payUAuthToken.getExpiresIn(), 0));
+        Duration skew = refreshSkew.compareTo(lifetime.dividedBy(2)) < 0 ? refreshSkew : lifetime.dividedBy(2);
+
+        return new CachedToken(payUAuthToken.getAccessToken(), now.plus(lifetime).minus(skew), now.plus(lifetime));
+    }
+
+    private PayUAuthToken requestToken(String url) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return restTemplate.postForObject(url, null, PayUAuthToken.class);
+            } catch (RestClientException e) {
+                if (attempt >= maxAttempts || !PayUCircuitBreaker.isGatewayFailure(e)) {
+                    throw new PayUAuthorizationException("PayU authorization request failed.", e);
+                }
+                tokenRetries.increment();
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private void backOff(int attempt, RestClientException failure) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        log.debug("PayU authorization attempt {} failed, retrying in {} ms.", attempt, delay);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PayUAuthorizationException("PayU authorization retry interrupted.", failure);
+        }
+    }
+
+    private static class CachedToken {
+        private final String accessToken;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
+
+        private CachedToken(String accessToken, Instant refreshAt, Instant expiresAt) {
+            this.accessToken = accessToken;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isFresh(Instant now) {
+            return now.isBefore(refreshAt);
+        }
+
+        private boolean isValid(Instant now) {
+            return now.isBefore(expiresAt);
+        }
     }
 }
@@ -0,0 +1,7 @@
+package com.gemora.payu;
+
+public class PayUUnavailableException extends PayUException {
+    public PayUUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,127 @@
+package com.gemora.product;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public class FileSystemImageStore implements ImageStore {
+    private static final Pattern DIGEST_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private static final String TOMBSTONE_SUFFIX = ".deleted";
+
+    private final Path root;
+    private final Duration deleteGrace;
+
+    public FileSystemImageStore(Path root, Duration deleteGrace) {
+        this.root = root.toAbsolutePath().normalize();
+        this.deleteGrace = deleteGrace;
+    }
+
+    @Override
+    public String put(byte[] image) {
+        String digest = ProductImageHelper.digest(image);
+        Path target = pathOf(digest);
+
+        try {
+            if (Files.exists(target)) {
+                try {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    return digest;
+                } catch (NoSuchFileException e) {
+                    // deleted concurrently, write it again
+                }
+            }
+
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), digest, ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(image);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                return digest;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest;
+    }
+
+    @Override
+    public boolean transferTo(String digest, WritableByteChannel target) {
+        try (FileChannel channel = FileChannel.open(pathOf(digest), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Path> findFile(String digest) {
+        Path path = pathOf(digest);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Deletes the image unless it was stored within the delete grace period. A {@link #put} that races with the
+     * deletion either touches the file before it is moved aside, so it is restored, or finds it gone and writes it again.
+     */
+    @Override
+    public void delete(String digest) {
+        Path path = pathOf(digest);
+        Path tombstone = path.resolveSibling(digest + TOMBSTONE_SUFFIX);
+        try {
+            try {
+                Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException e) {
+                return;
+            }
+
+            if (Files.getLastModifiedTime(tombstone).toInstant().isAfter(Instant.now().minus(deleteGrace))) {
+                try {
+                    Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+                    return;
+                } catch (FileAlreadyExistsException e) {
+                    // stored again meanwhile with the same content
+                }
+            }
+            Files.delete(tombstone);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(String digest) {
+        if (digest == null || !DIGEST_PATTERN.matcher(digest).matches()) {
+            throw new IllegalArgumentException("Invalid image digest: " + digest);
+        }
+        return root.resolve(digest.substring(0, 2)).resolve(digest.substring(2, 4)).resolve(digest);
+    }
+}
@@ -0,0 +1,23 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ImageRendition {
+    THUMBNAIL(240),
+    CARD(640),
+    FULL(1600);
+
+    private final int maxDimension;
+
+    public static ImageRendition from(String s) {
+        return switch (s) {
+            case "thumbnail" -> THUMBNAIL;
+            case "card" -> CARD;
+            case "full" -> FULL;
+            default -> throw new IllegalArgumentException("Unknown image rendition: " + s);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.gemora.product;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ImageStore {
+    String put(byte[] image);
+
+    boolean transferTo(String digest, WritableByteChannel target);
+
+    Optional<Path> findFile(String digest);
+
+    void delete(String digest);
+}
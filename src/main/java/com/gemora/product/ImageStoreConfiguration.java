@@ -0,0 +1,20 @@
+package com.gemora.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class ImageStoreConfiguration {
+    @Bean
+    @ConditionalOnProperty(name = "product.image.store.type", havingValue = "filesystem", matchIfMissing = true)
+    public ImageStore fileSystemImageStore(
+            @Value("${product.image.store.path:data/images}") String path,
+            @Value("${product.image.store.delete-grace:1h}") Duration deleteGrace) {
+        return new FileSystemImageStore(Path.of(path), deleteGrace);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gemora.product;
+
+public class InvalidProductImageException extends RuntimeException {
+    public InvalidProductImageException(String message) {
+        super(message);
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +15,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "product")
+@Table(name = "product", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_name", columnNames = "name")
+}, indexes = {
+        @Index(name = "idx_product_price_id", columnList = "price, id"),
+        @Index(name = "idx_product_posting_date_id", columnList = "postingDate, id"),
+        @Index(name = "idx_product_category_price_id", columnList = "category, price, id"),
+        @Index(name = "idx_product_category_posting_date_id", columnList = "category, postingDate, id")
+})
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,7 +36,15 @@ public class Product {
     private String description;
     private String category;
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private byte[] image;
+    private String imageContentType;
+
+    @Column(length = 64)
+    private String imageDigest;
+    private LocalDateTime imageUpdatedAt;
 
     private LocalDateTime postingDate;
 }
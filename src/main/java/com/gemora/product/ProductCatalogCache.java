@@ -0,0 +1,99 @@
+package com.gemora.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class ProductCatalogCache {
+    private final Cache<ProductListKey, List<ProductDto>> productLists;
+    private final Cache<Integer, ProductDto> products;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCatalogCache(
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.max-lists:256}") long maxLists,
+            @Value("${product.cache.max-products:10000}") long maxProducts,
+            @Value("${product.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.productLists = Caffeine.newBuilder()
+                .maximumSize(maxLists)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, productLists, "product.lists");
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.details");
+    }
+
+    public List<ProductDto> getList(ProductListKey key, Supplier<List<ProductDto>> loader) {
+        return getOrLoad(productLists, key, () -> List.copyOf(loader.get()));
+    }
+
+    public Optional<ProductDto> getProduct(Integer id, Supplier<Optional<ProductDto>> loader) {
+        ProductDto product = getOrLoad(products, id, () -> loader.get().orElse(null));
+
+        return Optional.ofNullable(product);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+
+        Integer productId = event.getProductId();
+        String category = event.getProduct() != null ? event.getProduct().getCategory() : null;
+
+        products.invalidate(productId);
+        productLists.asMap().entrySet().removeIf(entry ->
+                (event.getType() != ProductChangedEvent.ChangeType.DELETED && entry.getKey().coversCategory(category))
+                        || (event.getType() != ProductChangedEvent.ChangeType.CREATED && containsProduct(entry.getValue(), productId)));
+
+        log.debug("Invalidated catalog cache after {} of product {}", event.getType(), productId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        productLists.invalidateAll();
+        products.invalidateAll();
+    }
+
+    private <K, V> V getOrLoad(Cache<K, V> cache, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        V loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+
+        cache.put(key, loaded);
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    private boolean containsProduct(List<ProductDto> products, Integer productId) {
+        return products.stream().anyMatch(product -> productId.equals(product.getId()));
+    }
+}
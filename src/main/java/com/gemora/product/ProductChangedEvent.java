@@ -0,0 +1,30 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final ChangeType type;
+    private final Integer productId;
+    private final ProductSummary product;
+
+    public static ProductChangedEvent created(ProductSummary product) {
+        return new ProductChangedEvent(ChangeType.CREATED, product.getId(), product);
+    }
+
+    public static ProductChangedEvent updated(ProductSummary product) {
+        return new ProductChangedEvent(ChangeType.UPDATED, product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(Integer productId) {
+        return new ProductChangedEvent(ChangeType.DELETED, productId, null);
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
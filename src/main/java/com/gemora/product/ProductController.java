@@ -1,14 +1,24 @@
 package com.gemora.product;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.file.Path;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,10 +27,23 @@ import static com.gemora.validation.ValidationHelper.handleBindingResultErrors;
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
     private final ProductService productService;
+    private final ProductImageService productImageService;
+    private final ProductCatalogVersion productCatalogVersion;
+
+    @Value("${product.image.max-upload-size:10MB}")
+    private DataSize maxImageUploadSize = DataSize.ofMegabytes(10);
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductImageService productImageService,
+                             ProductCatalogVersion productCatalogVersion) {
         this.productService = productService;
+        this.productImageService = productImageService;
+        this.productCatalogVersion = productCatalogVersion;
     }
 
     @GetMapping("/{id}")
@@ -30,14 +53,71 @@ public class ProductController {
         return productDtoOptional.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/image")
+    public ResponseEntity<StreamingResponseBody> getProductImage(@PathVariable int id,
+                                                                 @RequestParam(defaultValue = "full") String rendition,
+                                                                 NativeWebRequest webRequest) {
+        ImageRendition imageRendition;
+        try {
+            imageRendition = ImageRendition.from(rendition);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<ProductImageMetadata> metadataOptional = productImageService.getImageMetadata(id, imageRendition);
+
+        if (metadataOptional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ProductImageMetadata metadata = metadataOptional.get();
+        String eTag = metadata.getETag();
+        long lastModified = metadata.getLastModified() == null ? -1 :
+                metadata.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(metadata.getContentType() != null ?
+                        metadata.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                .cacheControl(CacheControl.noCache());
+        if (lastModified >= 0) {
+            response.lastModified(lastModified);
+        }
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+
+        Optional<Path> imageFile = productImageService.findImageFile(metadata.getDigest());
+        if (imageFile.isPresent() && prepareSendfile(webRequest, imageFile.get())) {
+            return response.contentLength(imageFile.get().toFile().length()).build();
+        }
+
+        return response.body(outputStream -> productImageService.writeImage(metadata.getDigest(), outputStream));
+    }
+
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts(@RequestParam String sortBy) {
-        List<ProductDto> allProducts = productService.getAllProducts(sortBy);
+    public ResponseEntity<List<ProductDto>> getAllProducts(
+            @RequestParam String sortBy,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        try {
+            List<ProductDto> allProducts = productService.getAllProducts(sortBy, page, size);
 
-        return allProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(allProducts);
+            return allProducts.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(allProducts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    @Transactional
     @PostMapping
     public ResponseEntity<String> createProduct(
             @Valid @RequestBody ProductRequest productRequest, BindingResult bindingResult) {
@@ -52,30 +132,109 @@ public class ProductController {
         } catch (ProductAlreadyExistsException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(e.getMessage());
+        } catch (InvalidProductImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<String> createProduct(
+            @Valid @RequestPart("product") ProductDetails productDetails, BindingResult bindingResult,
+            @RequestPart("image") MultipartFile image) {
+        if (bindingResult.hasErrors()) {
+            return handleBindingResultErrors(bindingResult);
+        }
+        if (image.isEmpty()) {
+            return ResponseEntity.badRequest().body("Product image cannot be empty");
+        }
+        if (image.getSize() > maxImageUploadSize.toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("Product image is too large.");
+        }
+
+        try {
+            productService.createProduct(productDetails, image);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body("Product added successfully.");
+        } catch (ProductAlreadyExistsException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(e.getMessage());
+        } catch (InvalidProductImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     @GetMapping("category/{category}")
-    public ResponseEntity<List<ProductDto>> getProductsByCategory(@PathVariable String category) {
-        List<ProductDto> categoryProducts = productService.getProductsByCategory(category);
+    public ResponseEntity<List<ProductDto>> getProductsByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
-        return categoryProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(categoryProducts);
+        try {
+            List<ProductDto> categoryProducts = productService.getProductsByCategory(category, page, size);
+
+            return categoryProducts.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(categoryProducts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/sorted")
     public ResponseEntity<List<ProductDto>> getSortedProducts(
             @RequestParam("category") String category,
-            @RequestParam("sort") String sortType) {
-        List<ProductDto> sortedProducts = productService.getSortedProducts(category, sortType);
+            @RequestParam("sort") String sortType,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        try {
+            List<ProductDto> sortedProducts = productService.getSortedProducts(category, sortType, page, size);
 
-        return sortedProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(sortedProducts);
+            return sortedProducts.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(sortedProducts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ProductScrollResponse> scrollProducts(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam("sort") String sortType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        try {
+            ProductScrollResponse scrollResponse = productService.scrollProducts(category, sortType, cursor, size);
+
+            return scrollResponse.getProducts().isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(scrollResponse);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<ProductDto>> getFeaturedProducts() {
+    public ResponseEntity<List<ProductDto>> getFeaturedProducts(WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<ProductDto> featuredProducts = productService.getFeaturedProducts();
 
-        return featuredProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(featuredProducts);
+        return featuredProducts.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(featuredProducts);
     }
 
     @DeleteMapping("/{id}")
@@ -104,15 +263,85 @@ public class ProductController {
         } catch (ProductNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(e.getMessage());
+        } catch (ProductAlreadyExistsException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(e.getMessage());
+        } catch (InvalidProductImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping(value = "/edit/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<String> updateProductById(
+            @PathVariable int id,
+            @Valid @RequestPart("product") ProductDetails productDetails, BindingResult bindingResult,
+            @RequestPart(value = "image", required = false) MultipartFile image) {
+        if (bindingResult.hasErrors()) {
+            return handleBindingResultErrors(bindingResult);
+        }
+        if (image != null && image.getSize() > maxImageUploadSize.toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("Product image is too large.");
+        }
+
+        try {
+            productService.updateProductById(id, productDetails, image != null && !image.isEmpty() ? image : null);
+            return ResponseEntity.ok("Product updated successfully.");
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(e.getMessage());
+        } catch (ProductAlreadyExistsException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(e.getMessage());
+        } catch (InvalidProductImageException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<ProductDto>> getProductBySearchTerm(
             @RequestParam("searchTerm") String searchTerm,
-            @RequestParam("sort") String sortType) {
+            @RequestParam(value = "sort", required = false) String sortType,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<ProductDto> searchedProducts = productService.getProductBySearchTerm(searchTerm, sortType);
 
-        return searchedProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(searchedProducts);
+        return searchedProducts.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(searchedProducts);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestion>> getSuggestions(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest) {
+        String catalogETag = productCatalogVersion.getETag();
+        if (webRequest.checkNotModified(catalogETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        List<ProductSuggestion> suggestions = productService.getSuggestions(prefix, limit);
+
+        return suggestions.isEmpty() ? ResponseEntity.notFound().build() : catalogResponse(catalogETag).body(suggestions);
+    }
+
+    private static ResponseEntity.BodyBuilder catalogResponse(String catalogETag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalogETag);
+    }
+
+    private static boolean prepareSendfile(NativeWebRequest webRequest, Path imageFile) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null || !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            return false;
+        }
+
+        request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, imageFile.toString());
+        request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+        request.setAttribute(SENDFILE_END_ATTRIBUTE, imageFile.toFile().length());
+        return true;
     }
 }
@@ -0,0 +1,49 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Data
+@AllArgsConstructor
+public class ProductCursor {
+    private static final String SEPARATOR = "|";
+
+    private SortType sortType;
+    private Double price;
+    private LocalDateTime postingDate;
+    private Integer id;
+
+    public static ProductCursor after(SortType sortType, ProductSummary product) {
+        return new ProductCursor(sortType, product.getPrice(), product.getPostingDate(), product.getId());
+    }
+
+    public static ProductCursor decode(String token, SortType expectedSortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            SortType sortType = SortType.valueOf(parts[0]);
+
+            if (sortType != expectedSortType || parts.length != 3) {
+                throw new IllegalArgumentException("Cursor does not match sort type " + expectedSortType);
+            }
+
+            Integer id = Integer.valueOf(parts[2]);
+            return sortType == SortType.NEWEST
+                    ? new ProductCursor(sortType, null, LocalDateTime.parse(parts[1]), id)
+                    : new ProductCursor(sortType, Double.valueOf(parts[1]), null, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String value = sortType == SortType.NEWEST ? postingDate.toString() : price.toString();
+        String raw = sortType.name() + SEPARATOR + value + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
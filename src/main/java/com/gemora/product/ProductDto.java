@@ -16,5 +16,5 @@ public class ProductDto {
     private String manufacturer;
     private String description;
     private String category;
-    private String image;
+    private String imageUrl;
 }
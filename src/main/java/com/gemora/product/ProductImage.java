@@ -0,0 +1,43 @@
+package com.gemora.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "product_image", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_image_product_rendition", columnNames = {"product_id", "rendition"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private ImageRendition rendition;
+
+    private String contentType;
+    private int width;
+    private int height;
+
+    @Column(length = 64)
+    private String digest;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "image_data")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] data;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImageMetadata {
+    private Integer productId;
+    private String contentType;
+    private String digest;
+    private LocalDateTime lastModified;
+
+    public String getETag() {
+        return digest == null ? null : "\"" + digest + "\"";
+    }
+}
@@ -0,0 +1,32 @@
+package com.gemora.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductImageRepository extends JpaRepository<ProductImage, Integer> {
+    @Query("""
+            select new com.gemora.product.ProductImageMetadata(i.productId, i.contentType, i.digest, i.createdAt)
+            from ProductImage i
+            where i.productId = :productId and i.rendition = :rendition and i.data is null
+            """)
+    Optional<ProductImageMetadata> findStoredMetadata(Integer productId, ImageRendition rendition);
+
+    List<ProductImage> findByProductId(Integer productId);
+
+    @Query("select i.digest from ProductImage i where i.productId = :productId")
+    List<String> findDigestsByProductId(Integer productId);
+
+    boolean existsByDigest(String digest);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ProductImage i where i.productId = :productId")
+    int deleteByProductId(Integer productId);
+}
@@ -0,0 +1,204 @@
+package com.gemora.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class ProductImageService {
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ImageStore imageStore;
+
+    @Value("${product.image.max-pixels:40000000}")
+    private long maxPixels = 40_000_000;
+
+    @Value("${product.image.jpeg-quality:0.82}")
+    private float jpegQuality = 0.82f;
+
+    public ProductImageService(ProductRepository productRepository, ProductImageRepository productImageRepository,
+                               ImageStore imageStore) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.imageStore = imageStore;
+    }
+
+    public Map<ImageRendition, ProductImage> createRenditions(InputStreamSource upload) {
+        BufferedImage source = ProductImageHelper.read(upload, maxPixels);
+        boolean keepAlpha = source.getColorModel().hasAlpha();
+        String format = keepAlpha ? "png" : "jpeg";
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<ImageRendition, ProductImage> renditions = new EnumMap<>(ImageRendition.class);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            BufferedImage resized = ProductImageHelper.resize(source, rendition.getMaxDimension(), keepAlpha);
+            byte[] data = ProductImageHelper.encode(resized, format, jpegQuality);
+
+            renditions.put(rendition, ProductImage.builder()
+                    .rendition(rendition)
+                    .contentType("image/" + format)
+                    .width(resized.getWidth())
+                    .height(resized.getHeight())
+                    .digest(ProductImageHelper.digest(data))
+                    .data(data)
+                    .createdAt(now)
+                    .build());
+        }
+        return renditions;
+    }
+
+    @Transactional
+    public void replaceRenditions(Integer productId, Collection<ProductImage> renditions) {
+        List<String> previousDigests = productImageRepository.findDigestsByProductId(productId);
+
+        productImageRepository.deleteByProductId(productId);
+        renditions.forEach(rendition -> {
+            storeImageData(rendition);
+            rendition.setProductId(productId);
+        });
+        productImageRepository.saveAll(renditions);
+
+        releaseAfterCommit(previousDigests);
+    }
+
+    @Transactional
+    public void deleteRenditions(Integer productId) {
+        List<String> digests = productImageRepository.findDigestsByProductId(productId);
+
+        productImageRepository.deleteByProductId(productId);
+
+        releaseAfterCommit(digests);
+    }
+
+    public Optional<ProductImageMetadata> getImageMetadata(int id, ImageRendition rendition) {
+        Optional<ProductImageMetadata> metadata = productImageRepository.findStoredMetadata(id, rendition);
+        if (metadata.isPresent()) {
+            return metadata;
+        }
+
+        migrateLegacyImages(id);
+        return productImageRepository.findStoredMetadata(id, rendition);
+    }
+
+    public Optional<Path> findImageFile(String digest) {
+        return imageStore.findFile(digest);
+    }
+
+    public void writeImage(String digest, OutputStream outputStream) {
+        if (!imageStore.transferTo(digest, Channels.newChannel(outputStream))) {
+            throw new ProductNotFoundException("Product image not exists in the image store.");
+        }
+    }
+
+    private void migrateLegacyImages(int id) {
+        List<ProductImage> renditions = productImageRepository.findByProductId(id);
+        if (!renditions.isEmpty()) {
+            List<ProductImage> inlineRenditions = renditions.stream()
+                    .filter(rendition -> rendition.getData() != null)
+                    .toList();
+            inlineRenditions.forEach(this::storeImageData);
+            productImageRepository.saveAll(inlineRenditions);
+            return;
+        }
+
+        productRepository.findById(id)
+                .filter(product -> product.getImage() != null)
+                .ifPresent(this::migrateProductImage);
+    }
+
+    private void migrateProductImage(Product product) {
+        Map<ImageRendition, ProductImage> renditions;
+        try {
+            renditions = createRenditions(new ByteArrayResource(product.getImage()));
+        } catch (InvalidProductImageException e) {
+            log.warn("Product {} image cannot be decoded, storing the original for every rendition.", product.getId());
+            renditions = createOriginalRenditions(product);
+        }
+
+        renditions.values().forEach(rendition -> {
+            storeImageData(rendition);
+            rendition.setProductId(product.getId());
+        });
+
+        try {
+            productImageRepository.saveAll(renditions.values());
+        } catch (DataIntegrityViolationException e) {
+            log.info("Product {} image was migrated concurrently.", product.getId());
+            return;
+        }
+        productRepository.clearImage(product.getId());
+    }
+
+    private static Map<ImageRendition, ProductImage> createOriginalRenditions(Product product) {
+        String contentType = product.getImageContentType() != null ?
+                product.getImageContentType() : ProductImageHelper.detectContentType(new ByteArrayResource(product.getImage()));
+        LocalDateTime createdAt = product.getImageUpdatedAt() != null ? product.getImageUpdatedAt() : product.getPostingDate();
+
+        Map<ImageRendition, ProductImage> renditions = new EnumMap<>(ImageRendition.class);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            renditions.put(rendition, ProductImage.builder()
+                    .rendition(rendition)
+                    .contentType(contentType)
+                    .data(product.getImage())
+                    .createdAt(createdAt)
+                    .build());
+        }
+        return renditions;
+    }
+
+    private void storeImageData(ProductImage rendition) {
+        if (rendition.getData() != null) {
+            rendition.setDigest(imageStore.put(rendition.getData()));
+            rendition.setData(null);
+        }
+    }
+
+    private void releaseAfterCommit(List<String> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseUnreferenced(digests);
+                }
+            });
+        } else {
+            releaseUnreferenced(digests);
+        }
+    }
+
+    private void releaseUnreferenced(List<String> digests) {
+        digests.stream()
+                .distinct()
+                .filter(digest -> digest != null && !productImageRepository.existsByDigest(digest))
+                .forEach(digest -> {
+                    try {
+                        imageStore.delete(digest);
+                    } catch (UncheckedIOException | IllegalArgumentException e) {
+                        log.warn("Image {} could not be removed from the image store.", digest, e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,13 @@
+package com.gemora.product;
+
+import lombok.Value;
+
+@Value
+public class ProductListKey {
+    String category;
+    SortType sortType;
+
+    public boolean coversCategory(String productCategory) {
+        return category == null || category.equals(productCategory);
+    }
+}
@@ -1,9 +1,9 @@
 package com.gemora.product;
 
-import java.util.Base64;
-
 public class ProductMapper {
-    public static ProductDto mapProductToDto(Product product) {
+    private static final String IMAGE_URL_TEMPLATE = "/api/products/%d/image?rendition=thumbnail";
+
+    public static ProductDto mapProductSummaryToDto(ProductSummary product) {
         return ProductDto.builder()
                 .id(product.getId())
                 .name(product.getName())
@@ -11,7 +11,33 @@ public class ProductMapper {
                 .manufacturer(product.getManufacturer())
                 .description(product.getDescription())
                 .category(product.getCategory())
-                .image(Base64.getEncoder().encodeToString(product.getImage()))
+                .imageUrl(imageUrl(product.getId()))
+                .build();
+    }
+
+    public static ProductSummary mapProductToSummary(Product product) {
+        return ProductSummary.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .manufacturer(product.getManufacturer())
+                .description(product.getDescription())
+                .category(product.getCategory())
+                .postingDate(product.getPostingDate())
+                .build();
+    }
+
+    public static ProductDetails mapRequestToDetails(ProductRequest productRequest) {
+        return ProductDetails.builder()
+                .name(productRequest.getName())
+                .price(productRequest.getPrice())
+                .manufacturer(productRequest.getManufacturer())
+                .description(productRequest.getDescription())
+                .category(productRequest.getCategory())
                 .build();
     }
+
+    public static String imageUrl(Integer productId) {
+        return String.format(IMAGE_URL_TEMPLATE, productId);
+    }
 }
@@ -0,0 +1,142 @@
+package com.gemora.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@Slf4j
+public class ProductPriceCatalog {
+    private final ProductRepository productRepository;
+
+    private volatile PriceTable prices = PriceTable.EMPTY;
+
+    public ProductPriceCatalog(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<ProductSummary> products = productRepository.findAllSummaries(Sort.by("id"));
+
+        int[] ids = new int[products.size()];
+        double[] values = new double[products.size()];
+        for (int i = 0; i < products.size(); i++) {
+            ids[i] = products.get(i).getId();
+            values[i] = products.get(i).getPrice();
+        }
+        prices = PriceTable.of(ids, values, ids.length);
+
+        log.info("Product price catalog built with {} prices.", prices.size);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        if (event.getProduct() == null) {
+            prices = prices.without(event.getProductId());
+        } else {
+            prices = prices.with(event.getProductId(), event.getProduct().getPrice());
+        }
+    }
+
+    public double priceOf(int productId) {
+        return prices.get(productId);
+    }
+
+    private static final class PriceTable {
+        private static final int FREE = Integer.MIN_VALUE;
+        private static final PriceTable EMPTY = of(new int[0], new double[0], 0);
+
+        private final int[] keys;
+        private final double[] values;
+        private final int size;
+
+        private PriceTable(int[] keys, double[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private static PriceTable of(int[] ids, double[] prices, int count) {
+            int capacity = Integer.highestOneBit(Math.max(count, 4) * 2 - 1) << 1;
+            int[] keys = new int[capacity];
+            double[] values = new double[capacity];
+            Arrays.fill(keys, FREE);
+
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                int slot = slot(keys, ids[i]);
+                if (keys[slot] == FREE) {
+                    keys[slot] = ids[i];
+                    size++;
+                }
+                values[slot] = prices[i];
+            }
+            return new PriceTable(keys, values, size);
+        }
+
+        private double get(int id) {
+            int slot = slot(keys, id);
+            return keys[slot] == id ? values[slot] : Double.NaN;
+        }
+
+        private PriceTable with(int id, double price) {
+            int slot = slot(keys, id);
+            if (keys[slot] == id || (size + 1) * 2 <= keys.length) {
+                int[] newKeys = keys.clone();
+                double[] newValues = values.clone();
+                int newSize = newKeys[slot] == id ? size : size + 1;
+                newKeys[slot] = id;
+                newValues[slot] = price;
+                return new PriceTable(newKeys, newValues, newSize);
+            }
+
+            int[] ids = new int[size + 1];
+            double[] prices = new double[size + 1];
+            int count = copyEntries(ids, prices, FREE);
+            ids[count] = id;
+            prices[count] = price;
+            return of(ids, prices, count + 1);
+        }
+
+        private PriceTable without(int id) {
+            if (keys[slot(keys, id)] != id) {
+                return this;
+            }
+
+            int[] ids = new int[size];
+            double[] prices = new double[size];
+            return of(ids, prices, copyEntries(ids, prices, id));
+        }
+
+        private int copyEntries(int[] ids, double[] prices, int skippedId) {
+            int count = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != FREE && keys[i] != skippedId) {
+                    ids[count] = keys[i];
+                    prices[count] = values[i];
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private static int slot(int[] keys, int id) {
+            int mask = keys.length - 1;
+            int hash = id * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+
+            while (keys[slot] != FREE && keys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -1,16 +1,68 @@
 package com.gemora.product;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Integer> {
-    List<Product> findByCategory(String category);
+public interface ProductRepository extends JpaRepository<Product, Integer>, ProductRepositoryCustom {
+    String SELECT_PRODUCT_SUMMARY = """
+            select new com.gemora.product.ProductSummary(
+                p.id, p.name, p.price, p.manufacturer, p.description, p.category, p.postingDate)
+            from Product p
+            """;
 
-    Optional<Product> findProductByName(String name);
+    boolean existsByName(String name);
 
-    List<Product> findProductByNameContainingIgnoreCase(String searchTerm);
-}
\ No newline at end of file
+    @Query(SELECT_PRODUCT_SUMMARY + "where p.id = :id")
+    Optional<ProductSummary> findSummaryById(Integer id);
+
+    @Query(SELECT_PRODUCT_SUMMARY)
+    List<ProductSummary> findAllSummaries(Sort sort);
+
+    @Query(SELECT_PRODUCT_SUMMARY + "where p.category = :category")
+    List<ProductSummary> findSummariesByCategory(String category, Sort sort);
+
+    @Query(SELECT_PRODUCT_SUMMARY + "where p.id in :ids")
+    List<ProductSummary> findSummariesByIdIn(Collection<Integer> ids);
+
+    @Query("select p.imageDigest from Product p where p.id = :id")
+    Optional<String> findImageDigestById(Integer id);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            update Product p
+            set p.name = :name, p.price = :price, p.manufacturer = :manufacturer,
+                p.description = :description, p.category = :category
+            where p.id = :id
+            """)
+    int updateDetails(Integer id, String name, double price, String manufacturer, String description, String category);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            update Product p
+            set p.image = null, p.imageContentType = :contentType, p.imageDigest = :digest, p.imageUpdatedAt = :updatedAt
+            where p.id = :id
+            """)
+    int updateImage(Integer id, String contentType, String digest, LocalDateTime updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query("update Product p set p.image = null where p.id = :id")
+    int clearImage(Integer id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Product p where p.id = :id")
+    int deleteProductById(Integer id);
+}
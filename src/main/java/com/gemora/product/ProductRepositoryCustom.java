@@ -0,0 +1,7 @@
+package com.gemora.product;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+    List<ProductSummary> findSummariesAfter(String category, SortType sortType, ProductCursor cursor, int limit);
+}
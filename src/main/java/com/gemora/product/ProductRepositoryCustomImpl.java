@@ -0,0 +1,76 @@
+package com.gemora.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummary> findSummariesAfter(String category, SortType sortType, ProductCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<Product> product = query.from(Product.class);
+
+        query.select(cb.construct(ProductSummary.class,
+                product.get("id"),
+                product.get("name"),
+                product.get("price"),
+                product.get("manufacturer"),
+                product.get("description"),
+                product.get("category"),
+                product.get("postingDate")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (category != null) {
+            predicates.add(cb.equal(product.get("category"), category));
+        }
+        if (cursor != null) {
+            predicates.add(seekPredicate(cb, product, sortType, cursor));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        Path<Integer> id = product.get("id");
+        query.orderBy(switch (sortType) {
+            case ASCENDING -> List.of(cb.asc(product.get("price")), cb.asc(id));
+            case DESCENDING -> List.of(cb.desc(product.get("price")), cb.desc(id));
+            case NEWEST -> List.of(cb.desc(product.get("postingDate")), cb.desc(id));
+        });
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Product> product, SortType sortType, ProductCursor cursor) {
+        Path<Integer> id = product.get("id");
+
+        return switch (sortType) {
+            case ASCENDING -> {
+                Path<Double> price = product.get("price");
+                yield cb.or(cb.greaterThan(price, cursor.getPrice()),
+                        cb.and(cb.equal(price, cursor.getPrice()), cb.greaterThan(id, cursor.getId())));
+            }
+            case DESCENDING -> {
+                Path<Double> price = product.get("price");
+                yield cb.or(cb.lessThan(price, cursor.getPrice()),
+                        cb.and(cb.equal(price, cursor.getPrice()), cb.lessThan(id, cursor.getId())));
+            }
+            case NEWEST -> {
+                Path<LocalDateTime> postingDate = product.get("postingDate");
+                yield cb.or(cb.lessThan(postingDate, cursor.getPostingDate()),
+                        cb.and(cb.equal(postingDate, cursor.getPostingDate()), cb.lessThan(id, cursor.getId())));
+            }
+        };
+    }
+}
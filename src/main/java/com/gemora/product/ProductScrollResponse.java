@@ -0,0 +1,15 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductScrollResponse {
+    private List<ProductDto> products;
+    private String nextCursor;
+}
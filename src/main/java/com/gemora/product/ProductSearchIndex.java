@@ -0,0 +1,203 @@
+package com.gemora.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.gemora.product.ProductTextHelper.tokenize;
+
+@Component
+@Slf4j
+public class ProductSearchIndex {
+    private static final int NGRAM_SIZE = 3;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int MANUFACTURER_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double EXACT_MATCH_SCORE = 1.0;
+    private static final double PREFIX_MATCH_SCORE = 0.6;
+    private static final double INFIX_MATCH_SCORE = 0.3;
+
+    private final ProductRepository productRepository;
+
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> ngrams = new HashMap<>();
+    private final Map<Integer, Set<String>> documentTokens = new HashMap<>();
+    private final Map<Integer, ProductSummary> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ProductSummary> products = productRepository.findAllSummaries(Sort.by("id"));
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ngrams.clear();
+            documentTokens.clear();
+            documents.clear();
+            products.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Product search index built with {} products and {} terms.", products.size(), postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(event.getProductId());
+            if (event.getProduct() != null) {
+                addDocument(event.getProduct());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Integer> search(String query, int limit) {
+        return search(query, limit, null);
+    }
+
+    /**
+     * Returns up to {@code limit} matching product ids. Without an {@code order} matches are ranked by relevance;
+     * otherwise all matches are ordered by it before the limit is applied, so a sorted search sees the whole result set.
+     */
+    public List<Integer> search(String query, int limit, Comparator<ProductSummary> order) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = null;
+            for (String queryToken : queryTokens) {
+                Map<Integer, Double> tokenScores = scoreToken(queryToken);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Comparator<Map.Entry<Integer, Double>> ranking = order == null
+                    ? Map.Entry.<Integer, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey())
+                    : Comparator.comparing(entry -> documents.get(entry.getKey()), order);
+
+            return scores.entrySet().stream()
+                    .sorted(ranking)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Integer, Double> scoreToken(String queryToken) {
+        Map<Integer, Double> scores = new HashMap<>();
+
+        for (Map.Entry<String, Map<Integer, Integer>> entry : matchingTerms(queryToken).entrySet()) {
+            String term = entry.getKey();
+            double matchScore = term.equals(queryToken) ? EXACT_MATCH_SCORE
+                    : term.startsWith(queryToken) ? PREFIX_MATCH_SCORE
+                    : INFIX_MATCH_SCORE;
+
+            entry.getValue().forEach((id, weight) -> scores.merge(id, matchScore * weight, Math::max));
+        }
+        return scores;
+    }
+
+    private Map<String, Map<Integer, Integer>> matchingTerms(String queryToken) {
+        Map<String, Map<Integer, Integer>> matches = new HashMap<>(
+                postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, true));
+
+        if (queryToken.length() >= NGRAM_SIZE) {
+            Set<String> candidates = null;
+            for (String ngram : ngrams(queryToken)) {
+                Set<String> terms = ngrams.getOrDefault(ngram, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(terms);
+                } else {
+                    candidates.retainAll(terms);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+
+            candidates.stream()
+                    .filter(term -> term.contains(queryToken))
+                    .forEach(term -> matches.putIfAbsent(term, postings.get(term)));
+        }
+        return matches;
+    }
+
+    private void addDocument(ProductSummary product) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(product.getName()).forEach(token -> weights.merge(token, NAME_WEIGHT, Integer::sum));
+        tokenize(product.getManufacturer()).forEach(token -> weights.merge(token, MANUFACTURER_WEIGHT, Integer::sum));
+        tokenize(product.getDescription()).forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+
+        weights.forEach((token, weight) -> {
+            Map<Integer, Integer> documents = postings.computeIfAbsent(token, key -> {
+                ngrams(key).forEach(ngram -> ngrams.computeIfAbsent(ngram, n -> new HashSet<>()).add(key));
+                return new HashMap<>();
+            });
+            documents.put(product.getId(), weight);
+        });
+        documentTokens.put(product.getId(), weights.keySet());
+        documents.put(product.getId(), product);
+    }
+
+    private void removeDocument(Integer productId) {
+        documents.remove(productId);
+        Set<String> tokens = documentTokens.remove(productId);
+        if (tokens == null) {
+            return;
+        }
+
+        for (String token : tokens) {
+            Map<Integer, Integer> documents = postings.get(token);
+            documents.remove(productId);
+            if (documents.isEmpty()) {
+                postings.remove(token);
+                ngrams(token).forEach(ngram -> {
+                    Set<String> terms = ngrams.get(ngram);
+                    terms.remove(token);
+                    if (terms.isEmpty()) {
+                        ngrams.remove(ngram);
+                    }
+                });
+            }
+        }
+    }
+
+    private static Set<String> ngrams(String token) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + NGRAM_SIZE <= token.length(); i++) {
+            result.add(token.substring(i, i + NGRAM_SIZE));
+        }
+        return result;
+    }
+}
@@ -1,152 +1,277 @@
 package com.gemora.product;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class ProductService {
-    private final ProductRepository productRepository;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort DEFAULT_SORT = Sort.by("id");
 
-    public ProductService(ProductRepository productRepository) {
+    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggester productSuggester;
+    private final ProductImageService productImageService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.search.max-results:100}")
+    private int maxSearchResults = 100;
+
+    @Value("${product.suggest.max-results:10}")
+    private int maxSuggestions = 10;
+
+    public ProductService(
+            ProductRepository productRepository,
+            ProductCatalogCache productCatalogCache,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggester productSuggester,
+            ProductImageService productImageService,
+            ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggester = productSuggester;
+        this.productImageService = productImageService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Optional<ProductDto> getProductById(int id) {
-        Optional<Product> productOptional = productRepository.findById(id);
-
-        return productOptional.map(ProductMapper::mapProductToDto);
+        return productCatalogCache.getProduct(id, () -> productRepository.findSummaryById(id)
+                .map(ProductMapper::mapProductSummaryToDto));
     }
 
-    public List<ProductDto> getAllProducts(String sortType) {
-        List<Product> products = productRepository.findAll();
-        sortProducts(products, sortType);
-        return products.stream()
-                .map(ProductMapper::mapProductToDto)
-                .collect(Collectors.toList());
+    public List<ProductDto> getAllProducts(String sortType, Integer page, Integer size) {
+        SortType enumSortType = SortType.from(sortType);
+
+        List<ProductDto> products = productCatalogCache.getList(new ProductListKey(null, enumSortType),
+                () -> mapToDtos(productRepository.findAllSummaries(enumSortType.toSort())));
+
+        return page(products, page, size);
     }
 
-    @Transactional
-    public List<ProductDto> getProductsByCategory(String category) {
+    public List<ProductDto> getProductsByCategory(String category, Integer page, Integer size) {
         ProductCategory categoryEnum = ProductCategory.from(category);
 
-        List<Product> products = productRepository.findByCategory(categoryEnum.name());
-
-        return products.stream()
-                .map(ProductMapper::mapProductToDto)
-                .collect(Collectors.toList());
+        return page(findByCategory(categoryEnum, null), page, size);
     }
 
-    @Transactional
-    public List<ProductDto> getSortedProducts(String category, String sortType) {
+    public List<ProductDto> getSortedProducts(String category, String sortType, Integer page, Integer size) {
         ProductCategory categoryEnum = ProductCategory.from(category);
+        SortType enumSortType = SortType.from(sortType);
 
-        List<Product> products = productRepository.findByCategory(categoryEnum.name());
-
-        sortProducts(products, sortType);
-        return products.stream()
-                .map(ProductMapper::mapProductToDto)
-                .collect(Collectors.toList());
+        return page(findByCategory(categoryEnum, enumSortType), page, size);
     }
 
-    @Transactional
     public List<ProductDto> getFeaturedProducts() {
         ProductCategory category = ProductCategory.FEATURED;
 
-        List<Product> products = productRepository.findByCategory(category.name());
-
-        return products.stream()
-                .map(ProductMapper::mapProductToDto)
-                .collect(Collectors.toList());
+        return findByCategory(category, null);
     }
 
-    public void sortProducts(List<Product> products, String sortType) {
+    @Transactional
+    public ProductScrollResponse scrollProducts(String category, String sortType, String cursor, Integer size) {
+        String categoryName = category != null ? ProductCategory.from(category).name() : null;
         SortType enumSortType = SortType.from(sortType);
+        ProductCursor productCursor = cursor != null ? ProductCursor.decode(cursor, enumSortType) : null;
+        int limit = pageSize(size);
+
+        List<ProductSummary> products = productRepository.findSummariesAfter(
+                categoryName, enumSortType, productCursor, limit + 1);
 
-        switch (enumSortType) {
-            case ASCENDING -> products.sort(Comparator.comparing(Product::getPrice));
-            case DESCENDING -> products.sort(Comparator.comparing(Product::getPrice).reversed());
-            case NEWEST -> products.sort(Comparator.comparing(Product::getPostingDate).reversed());
+        String nextCursor = null;
+        if (products.size() > limit) {
+            products = products.subList(0, limit);
+            nextCursor = ProductCursor.after(enumSortType, products.get(limit - 1)).encode();
         }
+
+        return new ProductScrollResponse(mapToDtos(products), nextCursor);
     }
 
+    @Transactional
     public void createProduct(ProductRequest productRequest) {
-        String productName = productRequest.getName();
+        byte[] image = Base64.getDecoder().decode(productRequest.getImage());
 
-        if (productExists(productName)) {
+        createProduct(ProductMapper.mapRequestToDetails(productRequest), new ByteArrayResource(image));
+    }
+
+    @Transactional
+    public void createProduct(ProductDetails details, InputStreamSource image) {
+        String productName = details.getName();
+
+        if (productRepository.existsByName(productName)) {
             log.error("Product with name '{}' already exists in the database.", productName);
             throw new ProductAlreadyExistsException("Product already exists in the database.");
         }
 
+        Map<ImageRendition, ProductImage> renditions = productImageService.createRenditions(image);
+        LocalDateTime now = LocalDateTime.now();
+
         Product product = Product.builder()
-                .name(productRequest.getName())
-                .price(productRequest.getPrice())
-                .category(productRequest.getCategory())
-                .description(productRequest.getDescription())
-                .image(Base64.getDecoder().decode(productRequest.getImage()))
-                .manufacturer(productRequest.getManufacturer())
-                .postingDate(LocalDateTime.now())
+                .name(details.getName())
+                .price(details.getPrice())
+                .category(details.getCategory())
+                .description(details.getDescription())
+                .imageContentType(renditionContentType(renditions, image))
+                .imageDigest(ProductImageHelper.digest(image))
+                .imageUpdatedAt(now)
+                .manufacturer(details.getManufacturer())
+                .postingDate(now)
                 .build();
 
-        productRepository.save(product);
+        try {
+            productRepository.save(product);
+        } catch (DataIntegrityViolationException e) {
+            log.error("Product with name '{}' was added concurrently.", productName);
+            throw new ProductAlreadyExistsException("Product already exists in the database.");
+        }
+        productImageService.replaceRenditions(product.getId(), renditions.values());
+
+        eventPublisher.publishEvent(ProductChangedEvent.created(ProductMapper.mapProductToSummary(product)));
     }
 
+    @Transactional
     public void deleteProductById(int id) {
-        validateProductExistence(id);
+        if (productRepository.deleteProductById(id) == 0) {
+            throw productNotFound(id);
+        }
+
+        productImageService.deleteRenditions(id);
 
-        productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
+    @Transactional
     public void updateProductById(int id, ProductRequest product) {
-        validateProductExistence(id);
+        byte[] image = Base64.getDecoder().decode(product.getImage());
 
-        Optional<Product> productToUpdate = productRepository.findById(id);
+        updateProductById(id, ProductMapper.mapRequestToDetails(product), new ByteArrayResource(image));
+    }
 
-        productToUpdate.ifPresent(p -> {
-            p.setName(product.getName());
-            p.setPrice(product.getPrice());
-            p.setManufacturer(product.getManufacturer());
-            p.setDescription(product.getDescription());
-            p.setCategory(product.getCategory());
-            p.setImage(Base64.getDecoder().decode(product.getImage()));
+    @Transactional
+    public void updateProductById(int id, ProductDetails details, InputStreamSource image) {
+        int updated;
+        try {
+            updated = productRepository.updateDetails(id, details.getName(), details.getPrice(),
+                    details.getManufacturer(), details.getDescription(), details.getCategory());
+        } catch (DataIntegrityViolationException e) {
+            log.error("Product with name '{}' already exists in the database.", details.getName());
+            throw new ProductAlreadyExistsException("Product already exists in the database.");
+        }
+        if (updated == 0) {
+            throw productNotFound(id);
+        }
 
-            productRepository.save(p);
-        });
+        if (image != null) {
+            updateProductImage(id, image);
+        }
 
+        productRepository.findSummaryById(id)
+                .ifPresent(summary -> eventPublisher.publishEvent(ProductChangedEvent.updated(summary)));
     }
 
-    @Transactional
     public List<ProductDto> getProductBySearchTerm(String searchTerm, String sortType) {
-        List<Product> products = productRepository.findProductByNameContainingIgnoreCase(searchTerm);
+        List<Integer> rankedIds = sortType == null
+                ? productSearchIndex.search(searchTerm, maxSearchResults)
+                : productSearchIndex.search(searchTerm, maxSearchResults, SortType.from(sortType).toComparator());
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, ProductSummary> productsById = productRepository.findSummariesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
 
-        sortProducts(products, sortType);
+        List<ProductSummary> products = rankedIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
+        return mapToDtos(products);
+    }
+
+    public List<ProductSuggestion> getSuggestions(String prefix, Integer limit) {
+        int suggestionLimit = limit == null ? maxSuggestions : Math.min(Math.max(limit, 1), maxSuggestions);
+
+        return productSuggester.suggest(prefix, suggestionLimit);
+    }
+
+    private List<ProductDto> findByCategory(ProductCategory category, SortType sortType) {
+        Sort sort = sortType != null ? sortType.toSort() : DEFAULT_SORT;
+
+        return productCatalogCache.getList(new ProductListKey(category.name(), sortType),
+                () -> mapToDtos(productRepository.findSummariesByCategory(category.name(), sort)));
+    }
+
+    private List<ProductDto> page(List<ProductDto> products, Integer page, Integer size) {
+        if (!isPaged(page, size)) {
+            return products;
+        }
+
+        int pageSize = pageSize(size);
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page index must not be negative: " + pageNumber);
+        }
+
+        long from = (long) pageNumber * pageSize;
+        if (from >= products.size()) {
+            return List.of();
+        }
+        return products.subList((int) from, (int) Math.min(from + pageSize, products.size()));
+    }
+
+    private List<ProductDto> mapToDtos(List<ProductSummary> products) {
         return products.stream()
-                .map(ProductMapper::mapProductToDto)
+                .map(ProductMapper::mapProductSummaryToDto)
                 .collect(Collectors.toList());
     }
 
-    private void validateProductExistence(int id) {
-        if (!productExists(id)) {
-            log.error("Product with ID {} does not exist in the database.", id);
-            throw new ProductNotFoundException("Product not exists in the database.");
+    private boolean isPaged(Integer page, Integer size) {
+        return page != null || size != null;
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
         }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
-    private boolean productExists(String name) {
-        Optional<Product> existingProduct = productRepository.findProductByName(name);
+    private void updateProductImage(int id, InputStreamSource image) {
+        String digest = ProductImageHelper.digest(image);
+        if (digest.equals(productRepository.findImageDigestById(id).orElse(null))) {
+            return;
+        }
 
-        return existingProduct.isPresent();
+        Map<ImageRendition, ProductImage> renditions = productImageService.createRenditions(image);
+        productRepository.updateImage(id, renditionContentType(renditions, image), digest, LocalDateTime.now());
+        productImageService.replaceRenditions(id, renditions.values());
     }
 
-    private boolean productExists(Integer id) {
-        Optional<Product> existingProduct = productRepository.findById(id);
+    private static ProductNotFoundException productNotFound(int id) {
+        log.error("Product with ID {} does not exist in the database.", id);
+        return new ProductNotFoundException("Product not exists in the database.");
+    }
 
-        return existingProduct.isPresent();
+    private static String renditionContentType(Map<ImageRendition, ProductImage> renditions, InputStreamSource image) {
+        ProductImage full = renditions.get(ImageRendition.FULL);
+        return full != null ? full.getContentType() : ProductImageHelper.detectContentType(image);
     }
 }
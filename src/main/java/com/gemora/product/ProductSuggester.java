@@ -0,0 +1,258 @@
+package com.gemora.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static com.gemora.product.ProductTextHelper.normalize;
+
+@Component
+@Slf4j
+public class ProductSuggester implements DisposableBean {
+    private static final int NAME_WEIGHT = 3;
+    private static final int MANUFACTURER_WEIGHT = 2;
+
+    private final ProductRepository productRepository;
+    private final int maxSuggestions;
+    private final int maxKeyLength;
+    private final Executor rebuildExecutor;
+
+    private final Map<Integer, List<ProductSuggestion>> suggestionsByProduct = new HashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private long generation;
+    private long trieGeneration;
+    private volatile Trie trie = Trie.EMPTY;
+
+    @Autowired
+    public ProductSuggester(
+            ProductRepository productRepository,
+            @Value("${product.suggest.max-results:10}") int maxSuggestions,
+            @Value("${product.suggest.max-key-length:32}") int maxKeyLength) {
+        this(productRepository, maxSuggestions, maxKeyLength,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("product-suggester-")));
+    }
+
+    public ProductSuggester(ProductRepository productRepository, int maxSuggestions, int maxKeyLength, Executor rebuildExecutor) {
+        this.productRepository = productRepository;
+        this.maxSuggestions = maxSuggestions;
+        this.maxKeyLength = maxKeyLength;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ProductSummary> products = productRepository.findAllSummaries(Sort.by("id"));
+        synchronized (this) {
+            suggestionsByProduct.clear();
+            products.forEach(product -> suggestionsByProduct.put(product.getId(), suggestionsOf(product)));
+            generation++;
+        }
+        rebuildTrie();
+
+        log.info("Product suggester built with {} suggestions.", trie.suggestions.length);
+    }
+
+    /**
+     * Records the changed product's suggestions and schedules a trie rebuild on the suggester's own thread.
+     * Changes arriving while a rebuild is pending are folded into that rebuild.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (this) {
+            if (event.getProduct() == null) {
+                suggestionsByProduct.remove(event.getProductId());
+            } else {
+                suggestionsByProduct.put(event.getProductId(), suggestionsOf(event.getProduct()));
+            }
+            generation++;
+        }
+
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            try {
+                rebuildExecutor.execute(this::rebuildTrie);
+            } catch (RejectedExecutionException e) {
+                rebuildScheduled.set(false);
+                log.warn("Product suggester rebuild rejected, suggestions stay stale until the next change.");
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (key.length() > maxKeyLength) {
+            key = key.substring(0, maxKeyLength);
+        }
+
+        Trie current = trie;
+        Node node = current.root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(node.top)
+                .limit(limit)
+                .mapToObj(rank -> current.suggestions[rank])
+                .toList();
+    }
+
+    private static List<ProductSuggestion> suggestionsOf(ProductSummary product) {
+        List<ProductSuggestion> suggestions = new ArrayList<>(2);
+        if (product.getName() != null && !product.getName().isBlank()) {
+            suggestions.add(new ProductSuggestion(product.getName().strip(), ProductSuggestion.SuggestionType.NAME));
+        }
+        if (product.getManufacturer() != null && !product.getManufacturer().isBlank()) {
+            suggestions.add(new ProductSuggestion(product.getManufacturer().strip(), ProductSuggestion.SuggestionType.MANUFACTURER));
+        }
+        return suggestions;
+    }
+
+    private void rebuildTrie() {
+        rebuildScheduled.set(false);
+
+        List<List<ProductSuggestion>> snapshot;
+        long snapshotGeneration;
+        synchronized (this) {
+            snapshot = List.copyOf(suggestionsByProduct.values());
+            snapshotGeneration = generation;
+        }
+
+        Trie rebuilt = buildTrie(snapshot);
+        synchronized (this) {
+            if (snapshotGeneration >= trieGeneration) {
+                trie = rebuilt;
+                trieGeneration = snapshotGeneration;
+            }
+        }
+    }
+
+    private Trie buildTrie(List<List<ProductSuggestion>> suggestionsByProduct) {
+        Map<ProductSuggestion, Integer> weights = new HashMap<>();
+        suggestionsByProduct.forEach(suggestions -> suggestions.forEach(suggestion ->
+                weights.merge(suggestion, suggestion.getType() == ProductSuggestion.SuggestionType.NAME ?
+                        NAME_WEIGHT : MANUFACTURER_WEIGHT, Integer::sum)));
+
+        ProductSuggestion[] ranked = weights.entrySet().stream()
+                .sorted(Map.Entry.<ProductSuggestion, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getText())
+                        .thenComparing(entry -> entry.getKey().getType()))
+                .map(Map.Entry::getKey)
+                .toArray(ProductSuggestion[]::new);
+
+        List<Entry> entries = new ArrayList<>();
+        for (int rank = 0; rank < ranked.length; rank++) {
+            String text = normalize(ranked[rank].getText());
+            int start = text.isEmpty() ? -1 : 0;
+            while (start >= 0) {
+                entries.add(new Entry(text.substring(start, Math.min(text.length(), start + maxKeyLength)), rank));
+                int separator = text.indexOf(' ', start);
+                start = separator < 0 ? -1 : separator + 1;
+            }
+        }
+        entries.sort(Comparator.comparing((Entry entry) -> entry.key).thenComparingInt(entry -> entry.rank));
+
+        Node root = entries.isEmpty() ? null : buildNode(entries, 0, entries.size(), 0);
+        return new Trie(ranked, root);
+    }
+
+    private Node buildNode(List<Entry> entries, int from, int to, int depth) {
+        int childrenFrom = from;
+        while (childrenFrom < to && entries.get(childrenFrom).key.length() == depth) {
+            childrenFrom++;
+        }
+
+        List<Character> labels = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        for (int start = childrenFrom; start < to; ) {
+            char label = entries.get(start).key.charAt(depth);
+            int end = start;
+            while (end < to && entries.get(end).key.charAt(depth) == label) {
+                end++;
+            }
+            labels.add(label);
+            children.add(buildNode(entries, start, end, depth + 1));
+            start = end;
+        }
+
+        int[] top = IntStream.concat(
+                        entries.subList(from, childrenFrom).stream().mapToInt(entry -> entry.rank),
+                        children.stream().flatMapToInt(child -> Arrays.stream(child.top)))
+                .sorted()
+                .distinct()
+                .limit(maxSuggestions)
+                .toArray();
+
+        char[] labelArray = new char[labels.size()];
+        for (int i = 0; i < labelArray.length; i++) {
+            labelArray[i] = labels.get(i);
+        }
+        return new Node(labelArray, children.toArray(Node[]::new), top);
+    }
+
+    private static class Trie {
+        private static final Trie EMPTY = new Trie(new ProductSuggestion[0], null);
+
+        private final ProductSuggestion[] suggestions;
+        private final Node root;
+
+        private Trie(ProductSuggestion[] suggestions, Node root) {
+            this.suggestions = suggestions;
+            this.root = root;
+        }
+    }
+
+    private static class Node {
+        private final char[] labels;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] labels, Node[] children, int[] top) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static class Entry {
+        private final String key;
+        private final int rank;
+
+        private Entry(String key, int rank) {
+            this.key = key;
+            this.rank = rank;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSuggestion {
+    private String text;
+    private SuggestionType type;
+
+    public enum SuggestionType {
+        NAME,
+        MANUFACTURER
+    }
+}
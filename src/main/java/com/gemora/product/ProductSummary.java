@@ -0,0 +1,22 @@
+package com.gemora.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSummary {
+    private Integer id;
+    private String name;
+    private double price;
+    private String manufacturer;
+    private String description;
+    private String category;
+    private LocalDateTime postingDate;
+}
@@ -2,6 +2,9 @@ package com.gemora.product;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
 
 @Getter
 @AllArgsConstructor
@@ -18,5 +21,23 @@ public enum SortType {
             default -> throw new RuntimeException("Unknown sort type: " + s);
         };
     }
-}
 
+    public Sort toSort() {
+        return switch (this) {
+            case ASCENDING -> Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+            case DESCENDING -> Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id"));
+            case NEWEST -> Sort.by(Sort.Order.desc("postingDate"), Sort.Order.desc("id"));
+        };
+    }
+
+    public Comparator<ProductSummary> toComparator() {
+        return switch (this) {
+            case ASCENDING -> Comparator.comparingDouble(ProductSummary::getPrice)
+                    .thenComparing(ProductSummary::getId);
+            case DESCENDING -> Comparator.comparingDouble(ProductSummary::getPrice)
+                    .thenComparing(ProductSummary::getId).reversed();
+            case NEWEST -> Comparator.comparing(ProductSummary::getPostingDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ProductSummary::getId, Comparator.reverseOrder());
+        };
+    }
+}
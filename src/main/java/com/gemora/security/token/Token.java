@@ -7,11 +7,18 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_token_user_revoked_expired", columnList = "user_id, revoked, expired"),
+        @Index(name = "idx_token_created_at", columnList = "createdAt"),
+        @Index(name = "idx_token_revoked_at", columnList = "revokedAt")
+})
 public class Token {
 
     @Id
@@ -28,6 +35,10 @@ public class Token {
 
     public boolean expired;
 
+    public LocalDateTime createdAt;
+
+    public LocalDateTime revokedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     public User user;
@@ -0,0 +1,100 @@
+package com.gemora.security.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "application.security.token-purge.enabled", matchIfMissing = true)
+public class TokenPurgeJob {
+    private final TokenRepository tokenRepository;
+    private final Duration retention;
+    private final Duration tokenLifetime;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long pauseBetweenBatchesMs;
+
+    private final Counter deletedTokens;
+    private final Timer purgeTimer;
+    private final AtomicLong tableSize = new AtomicLong();
+
+    public TokenPurgeJob(
+            TokenRepository tokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.token-purge.retention-hours:24}") long retentionHours,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.token-purge.batch-size:1000}") int batchSize,
+            @Value("${application.security.token-purge.max-batches-per-run:100}") int maxBatchesPerRun,
+            @Value("${application.security.token-purge.pause-between-batches-ms:200}") long pauseBetweenBatchesMs) {
+        this.tokenRepository = tokenRepository;
+        this.retention = Duration.ofHours(retentionHours);
+        this.tokenLifetime = Duration.ofMillis(jwtExpiration);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatchesMs = pauseBetweenBatchesMs;
+
+        this.deletedTokens = Counter.builder("token.purge.deleted")
+                .description("Expired or revoked tokens removed from the token table")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("token.purge.duration")
+                .register(meterRegistry);
+        meterRegistry.gauge("token.table.size", tableSize);
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.security.token-purge.initial-delay-ms:60000}",
+            fixedDelayString = "${application.security.token-purge.interval-ms:3600000}")
+    public void purge() {
+        purgeTimer.record(this::purgeDeadTokens);
+    }
+
+    private void purgeDeadTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime revokedBefore = now.minus(retention);
+        LocalDateTime createdBefore = revokedBefore.minus(tokenLifetime);
+
+        long deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Integer> ids = tokenRepository.findPurgeableTokenIds(revokedBefore, createdBefore, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int batchDeleted = tokenRepository.deleteByIdIn(ids);
+            deleted += batchDeleted;
+            deletedTokens.increment(batchDeleted);
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        tableSize.set(tokenRepository.count());
+        log.info("Purged {} expired or revoked tokens, {} tokens remaining.", deleted, tableSize.get());
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package com.gemora.security.token;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Integer> {
 
+    @Modifying
+    @Transactional
     @Query(value = """
-            select t from Token t inner join User u\s
-            on t.user.id = u.id\s
-            where u.id = :id and (t.expired = false or t.revoked = false)\s
+            update Token t set t.expired = true, t.revoked = true, t.revokedAt = :revokedAt\s
+            where t.user.id = :id and t.expired = false and t.revoked = false\s
             """)
-    List<Token> findAllValidTokenByUser(Integer id);
+    int revokeAllValidTokensByUser(Integer id, LocalDateTime revokedAt);
 
     Optional<Token> findByToken(String token);
+
+    @Query(value = """
+            select t.id from Token t\s
+            where ((t.revoked = true or t.expired = true) and (t.revokedAt is null or t.revokedAt < :revokedBefore))\s
+            or t.createdAt < :createdBefore\s
+            """)
+    List<Integer> findPurgeableTokenIds(LocalDateTime revokedBefore, LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Token t where t.id in :ids")
+    int deleteByIdIn(Collection<Integer> ids);
 }
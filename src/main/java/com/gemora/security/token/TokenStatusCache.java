@@ -0,0 +1,84 @@
+package com.gemora.security.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.gemora.security.token.TokenHelper.digest;
+
+@Component
+@Slf4j
+public class TokenStatusCache {
+    private final TokenRepository tokenRepository;
+    private final Cache<String, TokenStatus> statuses;
+    private final Cache<String, Long> revocationEpochs;
+
+    /**
+     * Revocation epochs are kept for the longest token lifetime, so a token issued before a revocation expires
+     * before its user's epoch does. If an epoch is evicted early for size, every cached status is dropped with it.
+     */
+    public TokenStatusCache(
+            TokenRepository tokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.token-status-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.token-status-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${application.security.token-status-cache.revocations-max-size:100000}") long revocationsMaxSize,
+            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration) {
+        this.tokenRepository = tokenRepository;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.revocationEpochs = Caffeine.newBuilder()
+                .maximumSize(revocationsMaxSize)
+                .executor(Runnable::run)
+                .expireAfterWrite(Duration.ofMillis(Math.max(refreshExpiration, Duration.ofSeconds(ttlSeconds).toMillis())))
+                .evictionListener((String username, Long epoch, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        statuses.invalidateAll();
+                    }
+                })
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, statuses, "token.status");
+    }
+
+    public boolean isTokenActive(String token, String username) {
+        String key = digest(token);
+        long epoch = revocationEpochs.asMap().getOrDefault(username, 0L);
+
+        TokenStatus cached = statuses.getIfPresent(key);
+        if (cached != null && cached.epoch == epoch) {
+            return cached.active;
+        }
+
+        boolean active = tokenRepository.findByToken(token)
+                .map(t -> !t.isExpired() && !t.isRevoked())
+                .orElse(false);
+        statuses.put(key, new TokenStatus(active, epoch));
+        return active;
+    }
+
+    public void revokeAll(String username) {
+        revocationEpochs.asMap().merge(username, 1L, Long::sum);
+        log.debug("Invalidated cached token statuses of {}", username);
+    }
+
+    private static class TokenStatus {
+        private final boolean active;
+        private final long epoch;
+
+        private TokenStatus(boolean active, long epoch) {
+            this.active = active;
+            this.epoch = epoch;
+        }
+    }
+}
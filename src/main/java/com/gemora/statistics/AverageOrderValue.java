@@ -0,0 +1,14 @@
+package com.gemora.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AverageOrderValue {
+    private double revenue;
+    private long orderCount;
+    private double averageOrderValue;
+}
@@ -0,0 +1,14 @@
+package com.gemora.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSales {
+    private Integer productId;
+    private String name;
+    private Long quantity;
+}
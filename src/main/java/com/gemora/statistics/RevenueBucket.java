@@ -0,0 +1,16 @@
+package com.gemora.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevenueBucket {
+    private LocalDate periodStart;
+    private double revenue;
+    private long orderCount;
+}
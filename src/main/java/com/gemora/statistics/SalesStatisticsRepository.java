@@ -0,0 +1,30 @@
+package com.gemora.statistics;
+
+import com.gemora.order.Order;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+@org.springframework.stereotype.Repository
+public interface SalesStatisticsRepository extends Repository<Order, Integer> {
+    @Query("select coalesce(max(o.id), 0) from Order o")
+    int findMaxOrderId();
+
+    @Query("""
+            select new com.gemora.statistics.DailySales(
+                cast(o.orderDateTime as LocalDate), sum(o.totalAmount), count(o))
+            from Order o
+            where o.orderDateTime is not null and o.id <= :maxOrderId
+            group by cast(o.orderDateTime as LocalDate)
+            """)
+    List<DailySales> findDailySales(int maxOrderId);
+
+    @Query("""
+            select new com.gemora.statistics.ProductSales(p.id, max(p.name), sum(p.quantity))
+            from Order o join o.products p
+            where p.id is not null and o.id <= :maxOrderId
+            group by p.id
+            """)
+    List<ProductSales> findProductSales(int maxOrderId);
+}
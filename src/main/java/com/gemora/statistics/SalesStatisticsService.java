@@ -0,0 +1,175 @@
+package com.gemora.statistics;
+
+import com.gemora.order.Order;
+import com.gemora.order.OrderSavedEvent;
+import com.gemora.order.OrderSimplifiedProduct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+@Slf4j
+public class SalesStatisticsService {
+    private final SalesStatisticsRepository salesStatisticsRepository;
+
+    private final NavigableMap<LocalDate, SalesBucket> dailySales = new TreeMap<>();
+    private final Map<Integer, ProductBucket> productSales = new HashMap<>();
+    private double totalRevenue;
+    private long totalOrderCount;
+    private int rebuiltUpToOrderId;
+
+    public SalesStatisticsService(SalesStatisticsRepository salesStatisticsRepository) {
+        this.salesStatisticsRepository = salesStatisticsRepository;
+    }
+
+    /**
+     * Rebuilds the rollups from orders up to the current highest order id. Orders saved while the application
+     * starts may already be counted here, so {@link #onOrderSaved} skips every order at or below that id.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        dailySales.clear();
+        productSales.clear();
+        totalRevenue = 0;
+        totalOrderCount = 0;
+        rebuiltUpToOrderId = salesStatisticsRepository.findMaxOrderId();
+
+        for (DailySales day : salesStatisticsRepository.findDailySales(rebuiltUpToOrderId)) {
+            SalesBucket bucket = dailySales.computeIfAbsent(day.getDay(), d -> new SalesBucket());
+            bucket.add(valueOf(day.getRevenue()), valueOf(day.getOrderCount()));
+            totalRevenue += valueOf(day.getRevenue());
+            totalOrderCount += valueOf(day.getOrderCount());
+        }
+        for (ProductSales product : salesStatisticsRepository.findProductSales(rebuiltUpToOrderId)) {
+            productSales.computeIfAbsent(product.getProductId(), id -> new ProductBucket())
+                    .add(product.getName(), valueOf(product.getQuantity()));
+        }
+
+        log.info("Sales statistics built from {} orders over {} days.", totalOrderCount, dailySales.size());
+    }
+
+    @EventListener
+    public synchronized void onOrderSaved(OrderSavedEvent event) {
+        Order order = event.getOrder();
+        if (order.getId() != null && order.getId() <= rebuiltUpToOrderId) {
+            return;
+        }
+
+        if (order.getOrderDateTime() != null) {
+            dailySales.computeIfAbsent(order.getOrderDateTime().toLocalDate(), d -> new SalesBucket())
+                    .add(order.getTotalAmount(), 1);
+            totalRevenue += order.getTotalAmount();
+            totalOrderCount++;
+        }
+
+        if (order.getProducts() != null) {
+            for (OrderSimplifiedProduct product : order.getProducts()) {
+                if (product.getId() != null) {
+                    productSales.computeIfAbsent(product.getId(), id -> new ProductBucket())
+                            .add(product.getName(), product.getQuantity() != null ? product.getQuantity() : 0);
+                }
+            }
+        }
+    }
+
+    public synchronized List<RevenueBucket> getRevenue(StatisticsPeriod period, LocalDate from, LocalDate to) {
+        Map<LocalDate, SalesBucket> periods = new TreeMap<>();
+
+        daysBetween(from, to).forEach((day, bucket) ->
+                periods.computeIfAbsent(period.periodStart(day), d -> new SalesBucket())
+                        .add(bucket.revenue, bucket.orderCount));
+
+        List<RevenueBucket> revenue = new ArrayList<>(periods.size());
+        periods.forEach((periodStart, bucket) ->
+                revenue.add(new RevenueBucket(periodStart, bucket.revenue, bucket.orderCount)));
+
+        return revenue;
+    }
+
+    public synchronized List<ProductSales> getTopProducts(int limit) {
+        PriorityQueue<Map.Entry<Integer, ProductBucket>> top = new PriorityQueue<>(
+                Comparator.comparingLong((Map.Entry<Integer, ProductBucket> e) -> e.getValue().quantity)
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+
+        for (Map.Entry<Integer, ProductBucket> entry : productSales.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ProductSales> products = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Integer, ProductBucket> entry = top.poll();
+            products.add(new ProductSales(entry.getKey(), entry.getValue().name, entry.getValue().quantity));
+        }
+        Collections.reverse(products);
+
+        return products;
+    }
+
+    public synchronized AverageOrderValue getAverageOrderValue(LocalDate from, LocalDate to) {
+        double revenue;
+        long orderCount;
+
+        if (from == null && to == null) {
+            revenue = totalRevenue;
+            orderCount = totalOrderCount;
+        } else {
+            SalesBucket sum = new SalesBucket();
+            daysBetween(from, to).values().forEach(bucket -> sum.add(bucket.revenue, bucket.orderCount));
+            revenue = sum.revenue;
+            orderCount = sum.orderCount;
+        }
+
+        return new AverageOrderValue(revenue, orderCount, orderCount == 0 ? 0 : revenue / orderCount);
+    }
+
+    private NavigableMap<LocalDate, SalesBucket> daysBetween(LocalDate from, LocalDate to) {
+        if (from != null && to != null) {
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("Start date must not be after end date.");
+            }
+            return dailySales.subMap(from, true, to, true);
+        } else if (from != null) {
+            return dailySales.tailMap(from, true);
+        } else if (to != null) {
+            return dailySales.headMap(to, true);
+        }
+        return dailySales;
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : 0;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static class SalesBucket {
+        private double revenue;
+        private long orderCount;
+
+        private void add(double revenue, long orderCount) {
+            this.revenue += revenue;
+            this.orderCount += orderCount;
+        }
+    }
+
+    private static class ProductBucket {
+        private String name;
+        private long quantity;
+
+        private void add(String name, long quantity) {
+            if (name != null) {
+                this.name = name;
+            }
+            this.quantity += quantity;
+        }
+    }
+}
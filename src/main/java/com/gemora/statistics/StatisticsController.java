@@ -0,0 +1,59 @@
+package com.gemora.statistics;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/statistics")
+public class StatisticsController {
+    private static final int MAX_TOP_PRODUCTS = 100;
+
+    private final SalesStatisticsService salesStatisticsService;
+
+    public StatisticsController(SalesStatisticsService salesStatisticsService) {
+        this.salesStatisticsService = salesStatisticsService;
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenueBucket>> getRevenue(
+            @RequestParam(defaultValue = "day") String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<RevenueBucket> revenue = salesStatisticsService.getRevenue(StatisticsPeriod.from(period), from, to);
+
+            return revenue.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(revenue);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/top-products")
+    public ResponseEntity<List<ProductSales>> getTopProducts(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_TOP_PRODUCTS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<ProductSales> topProducts = salesStatisticsService.getTopProducts(limit);
+
+        return topProducts.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(topProducts);
+    }
+
+    @GetMapping("/average-order-value")
+    public ResponseEntity<AverageOrderValue> getAverageOrderValue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(salesStatisticsService.getAverageOrderValue(from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
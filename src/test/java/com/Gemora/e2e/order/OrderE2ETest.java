@@ -2,6 +2,8 @@ package com.Gemora.e2e.order;
 
 import com.gemora.order.*;
 import com.gemora.order.OrderCreateRequest;
+import com.gemora.product.ProductChangedEvent;
+import com.gemora.product.ProductPriceCatalog;
 import com.gemora.user.User;
 import com.gemora.user.UserRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +23,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
 import static com.Gemora.unit.order.OrderTestHelper.*;
+import static com.Gemora.unit.product.ProductTestHelper.createProductSummary;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -37,6 +40,9 @@ public class OrderE2ETest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProductPriceCatalog productPriceCatalog;
+
     @AfterEach
     void setUp() {
         orderRepository.deleteAll();
@@ -63,10 +69,13 @@ public class OrderE2ETest {
         User user = createUser();
         user = userRepository.save(user);
 
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(1, "Product Name 1", 10.0, "Rings", null)));
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(2, "Product Name 2", 15.0, "Rings", null)));
+
         List<OrderSimplifiedProduct> orderSimplifiedProductList = createOrderSimplifiedProductList();
         ShippingDetails shippingDetails = createShippingDetails();
 
-        Order order = new Order(1, orderSimplifiedProductList, user, LocalDateTime.now(), 200, shippingDetails);
+        Order order = new Order(1, orderSimplifiedProductList, user, LocalDateTime.now(), 95, shippingDetails);
         String baseUrl = "http://localhost:" + port + "/api/orders/save-order";
 
         //when
@@ -1,6 +1,7 @@
 package com.Gemora.e2e.product;
 
 import com.gemora.product.Product;
+import com.gemora.product.ProductCatalogCache;
 import com.gemora.product.ProductDto;
 import com.gemora.product.ProductRepository;
 import com.gemora.product.ProductRequest;
@@ -33,9 +34,13 @@ public class ProductE2ETest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
     @AfterEach
     void setUp() {
         productRepository.deleteAll();
+        productCatalogCache.invalidateAll();
     }
 
     @Test
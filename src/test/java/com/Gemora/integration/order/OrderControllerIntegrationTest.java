@@ -12,17 +12,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.Gemora.unit.TestUtils.asJsonString;
 import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
 import static com.Gemora.unit.order.OrderTestHelper.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -47,12 +51,15 @@ public class OrderControllerIntegrationTest {
         OrderCreateRequest request = new OrderCreateRequest("Gemora", "200");
 
         when(orderService.createOrder(any(OrderCreateRequest.class)))
-                .thenReturn(new OrderCreateResponse("http://example.com", true));
+                .thenReturn(CompletableFuture.completedFuture(new OrderCreateResponse("http://example.com", true)));
 
         //when
-        ResultActions result = mockMvc.perform(post("/api/orders")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(asJsonString(request)));
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         //then
         result.andExpect(status().isOk())
@@ -85,7 +92,7 @@ public class OrderControllerIntegrationTest {
         //given
         List<OrderDto> expectedOrders = createExpectedOrders();
 
-        when(orderService.getAllOrders()).thenReturn(expectedOrders);
+        when(orderService.getAllOrders(any(OrderFilter.class), isNull(), isNull())).thenReturn(expectedOrders);
 
         //when
         ResultActions result = mockMvc.perform(get("/api/orders"));
@@ -103,7 +110,7 @@ public class OrderControllerIntegrationTest {
     @Test
     void getAllOrders_ReturnsNotFoundStatus_OrdersListIsEmpty() throws Exception {
         //given
-        when(orderService.getAllOrders()).thenReturn(Collections.emptyList());
+        when(orderService.getAllOrders(any(OrderFilter.class), isNull(), isNull())).thenReturn(Collections.emptyList());
 
         //when
         ResultActions result = mockMvc.perform(get("/api/orders"));
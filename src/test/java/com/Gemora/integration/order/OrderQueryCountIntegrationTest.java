@@ -0,0 +1,105 @@
+package com.Gemora.integration.order;
+
+import com.gemora.GemoraApplication;
+import com.gemora.order.*;
+import com.gemora.user.User;
+import com.gemora.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
+import static com.Gemora.unit.order.OrderTestHelper.createOrderSimplifiedProductList;
+import static com.Gemora.unit.order.OrderTestHelper.createShippingDetails;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = GemoraApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderQueryCountIntegrationTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User newUser = createUser();
+        newUser.setId(null);
+        user = userRepository.save(newUser);
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(new Order(null, createOrderSimplifiedProductList(), user, LocalDateTime.now(), 200, createShippingDetails()));
+        }
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        orderRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void getAllOrders_LoadsPageOfOrdersInTwoQueries_SeveralOrdersExist() {
+        //when
+        List<OrderDto> orders = orderService.getAllOrders(new OrderFilter(), null, null);
+
+        //then
+        assertThat(orders).hasSize(5);
+        assertThat(orders).allSatisfy(order -> {
+            assertThat(order.getProducts()).hasSize(2);
+            assertThat(order.getUser().getEmail()).isEqualTo(user.getEmail());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrdersByUserId_LoadsOrdersItemsAndUserInOneQuery_UserHasSeveralOrders() {
+        //when
+        List<OrderDto> orders = orderService.getOrdersByUserId(user.getId());
+
+        //then
+        assertThat(orders).hasSize(5);
+        assertThat(orders).allSatisfy(order -> assertThat(order.getProducts()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void saveOrders_InsertsOrdersAndItemsInJdbcBatches_LargeBatch() {
+        //given
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(new Order(null, createOrderSimplifiedProductList(), user, LocalDateTime.now(), 95, createShippingDetails()));
+        }
+
+        //when
+        int savedOrders = orderService.saveOrders(orders);
+
+        //then
+        assertThat(savedOrders).isEqualTo(100);
+        assertThat(orderRepository.count()).isEqualTo(105);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.http.MediaType;
 
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartResolver;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +27,7 @@ import static com.Gemora.unit.product.ProductTestHelper.createProductRequest;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +42,9 @@ public class ProductControllerIntegrationTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean(name = "multipartResolver")
+    private MultipartResolver multipartResolver;
+
     @Test
     void getProductById_ReturnsOkStatus_ValidProduct() throws Exception {
         //given
@@ -86,7 +93,7 @@ public class ProductControllerIntegrationTest {
 
         List<ProductDto> productDtoList = createProductDtosMockedList(category);
 
-        when(productService.getAllProducts(eq("ascending"))).thenReturn(productDtoList);
+        when(productService.getAllProducts(eq("ascending"), isNull(), isNull())).thenReturn(productDtoList);
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products?sortBy=ascending"));
@@ -102,7 +109,7 @@ public class ProductControllerIntegrationTest {
         //given
         String sortType = "descending";
 
-        when(productService.getAllProducts(eq(sortType))).thenReturn(Collections.emptyList());
+        when(productService.getAllProducts(eq(sortType), isNull(), isNull())).thenReturn(Collections.emptyList());
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products?sortBy=descending"));
@@ -152,7 +159,7 @@ public class ProductControllerIntegrationTest {
 
         List<ProductDto> productDtoList = createProductDtosMockedList(category);
 
-        when(productService.getProductsByCategory(eq(category))).thenReturn(productDtoList);
+        when(productService.getProductsByCategory(eq(category), isNull(), isNull())).thenReturn(productDtoList);
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products/category/{category}", category));
@@ -170,7 +177,7 @@ public class ProductControllerIntegrationTest {
         //given
         String category = "ENGAGEMENTS";
 
-        when(productService.getProductsByCategory(eq(category))).thenReturn(Collections.emptyList());
+        when(productService.getProductsByCategory(eq(category), isNull(), isNull())).thenReturn(Collections.emptyList());
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products/category/{category}", category));
@@ -188,7 +195,7 @@ public class ProductControllerIntegrationTest {
 
         List<ProductDto> productDtoList = createProductDtosMockedList(category);
 
-        when(productService.getSortedProducts(eq(category), eq(sortType))).thenReturn(productDtoList);
+        when(productService.getSortedProducts(eq(category), eq(sortType), isNull(), isNull())).thenReturn(productDtoList);
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products/sorted")
@@ -207,7 +214,7 @@ public class ProductControllerIntegrationTest {
         String sortType = "newest";
         String category = "RINGS";
 
-        when(productService.getSortedProducts(eq(category), eq(sortType))).thenReturn(Collections.emptyList());
+        when(productService.getSortedProducts(eq(category), eq(sortType), isNull(), isNull())).thenReturn(Collections.emptyList());
 
         //when
         ResultActions result = mockMvc.perform(get("/api/products/sorted")
@@ -360,6 +367,25 @@ public class ProductControllerIntegrationTest {
                 .andExpect(content().string(""));
     }
 
+    @Test
+    void createProduct_ReturnsPayloadTooLargeStatus_MultipartExceedsUploadLimit() throws Exception {
+        //given
+        long maxUploadSize = DataSize.ofMegabytes(10).toBytes();
+
+        when(multipartResolver.isMultipart(any())).thenReturn(true);
+        when(multipartResolver.resolveMultipart(any())).thenThrow(new MaxUploadSizeExceededException(maxUploadSize));
+
+        //when
+        ResultActions result = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .content(new byte[(int) maxUploadSize + 1]));
+
+        //then
+        result.andExpect(status().isPayloadTooLarge())
+                .andExpect(content().string("Uploaded file is too large."));
+        verifyNoInteractions(productService);
+    }
+
     private List<ProductDto> createProductDtosMockedList(String category) {
         ProductDto productDto1 = createProductDto(1, "Product name 1", 100, category);
         ProductDto productDto2 = createProductDto(2, "Product name 2", 200, category);
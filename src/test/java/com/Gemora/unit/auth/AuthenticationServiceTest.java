@@ -6,10 +6,12 @@ import com.gemora.auth.AuthenticationResponse;
 import com.gemora.auth.AuthenticationService;
 import com.gemora.auth.RegisterRequest;
 import com.gemora.config.JwtService;
+import com.gemora.config.UserDetailsCache;
 import com.gemora.validation.exceptions.EmailAlreadyExistsException;
 import com.gemora.validation.exceptions.EmailValidationException;
 import com.gemora.security.token.Token;
 import com.gemora.security.token.TokenRepository;
+import com.gemora.security.token.TokenStatusCache;
 import com.gemora.user.Role;
 import com.gemora.user.User;
 import com.gemora.user.UserRepository;
@@ -26,8 +28,9 @@ import static com.Gemora.unit.auth.AuthenticationTestHelper.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -51,9 +54,15 @@ public class AuthenticationServiceTest {
     @Mock
     private TokenRepository tokenRepository;
 
+    @Mock
+    private TokenStatusCache tokenStatusCache;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @BeforeEach
     void init() {
-        authenticationService = new AuthenticationService(userRepositoryMock, tokenRepository, passwordEncoder, jwtService, authenticationManager);
+        authenticationService = new AuthenticationService(userRepositoryMock, tokenRepository, passwordEncoder, jwtService, authenticationManager, tokenStatusCache, userDetailsCache);
     }
 
     @Test
@@ -119,15 +128,17 @@ public class AuthenticationServiceTest {
         when(userRepositoryMock.findByEmail(authenticationRequest.getEmail())).thenReturn(Optional.of(user));
         when(jwtService.generateToken(user)).thenReturn("sampleAccessToken");
         when(jwtService.generateRefreshToken(user)).thenReturn("sampleRefreshToken");
-        when(tokenRepository.findAllValidTokenByUser(user.getId())).thenReturn(List.of(new Token()));
+        when(tokenRepository.revokeAllValidTokensByUser(eq(user.getId()), any(LocalDateTime.class))).thenReturn(1);
 
         //when
         AuthenticationResponse authenticationResponse = authenticationService.authenticate(authenticationRequest);
 
         //then
         assertAuthenticationResponseIsValid(authenticationResponse);
-        verify(tokenRepository, times(1)).saveAll(any(Iterable.class));
-
+        verify(tokenRepository, times(1)).revokeAllValidTokensByUser(eq(user.getId()), any(LocalDateTime.class));
+        verify(tokenRepository, never()).saveAll(any(Iterable.class));
+        verify(tokenStatusCache).revokeAll(user.getEmail());
+        verify(userDetailsCache).evict(user.getEmail());
     }
 
     @Test
@@ -0,0 +1,140 @@
+package com.Gemora.unit.cart;
+
+import com.gemora.GemoraApplication;
+import com.gemora.cart.*;
+import com.gemora.product.ProductNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.Gemora.unit.TestUtils.getBindingResult;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class CartControllerTest {
+    private static final String CART_ID = "3f2b8c1e-6a4d-4f0e-9b7a-2c5d8e1f0a9b";
+
+    private CartController cartController;
+
+    @Mock
+    private CartService cartService;
+
+    @BeforeEach
+    void init() {
+        cartController = new CartController(cartService);
+    }
+
+    @Test
+    void getCart_UsesUserCart_UserIsAuthenticated() {
+        //given
+        Principal principal = () -> "john@example.com";
+        CartDto expectedCart = new CartDto(List.of(new CartLineDto(1, "Golden ring", 1, 100.0, 100.0)), 100.0);
+
+        when(cartService.getCart("user:john@example.com")).thenReturn(expectedCart);
+
+        //when
+        ResponseEntity<CartDto> response = cartController.getCart(principal, "abc");
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedCart, response.getBody());
+    }
+
+    @Test
+    void getCart_ReturnsBadRequestStatus_GuestWithoutCartId() {
+        //when
+        ResponseEntity<CartDto> response = cartController.getCart(null, null);
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    void addItem_ReturnsOkStatus_GuestAddsProduct() {
+        //when
+        ResponseEntity<String> response = cartController.addItem(null, CART_ID, new CartItemRequest(1, 2), getBindingResult(false));
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(cartService, times(1)).addItem("guest:" + CART_ID, 1, 2);
+    }
+
+    @Test
+    void addItem_ReturnsNotFoundStatus_ProductDoesNotExist() {
+        //given
+        when(cartService.addItem("guest:" + CART_ID, 99, 1)).thenThrow(new ProductNotFoundException("Product with id 99 does not exist."));
+
+        //when
+        ResponseEntity<String> response = cartController.addItem(null, CART_ID, new CartItemRequest(99, 1), getBindingResult(false));
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void mergeCart_MergesGuestCartIntoUserCart_UserIsAuthenticated() {
+        //given
+        Principal principal = () -> "john@example.com";
+
+        //when
+        ResponseEntity<String> response = cartController.mergeCart(principal, CART_ID);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(cartService, times(1)).mergeCarts("user:john@example.com", "guest:" + CART_ID);
+    }
+
+    @Test
+    void mergeCart_ReturnsUnauthorizedStatus_UserIsNotAuthenticated() {
+        //when
+        ResponseEntity<String> response = cartController.mergeCart(null, CART_ID);
+
+        //then
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    void addItem_IssuesRandomCartId_GuestWithoutCartId() {
+        //when
+        ResponseEntity<String> response = cartController.addItem(null, null, new CartItemRequest(1, 2), getBindingResult(false));
+
+        //then
+        String cartId = response.getHeaders().getFirst("X-Cart-Id");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(cartId, UUID.fromString(cartId).toString());
+        verify(cartService, times(1)).addItem("guest:" + cartId, 1, 2);
+    }
+
+    @Test
+    void addItem_ReturnsBadRequestStatus_CartIdIsNotUuid() {
+        //when
+        ResponseEntity<String> response = cartController.addItem(null, "abc", new CartItemRequest(1, 2), getBindingResult(false));
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    void mergeCart_ReturnsBadRequestStatus_CartIdIsNotUuid() {
+        //given
+        Principal principal = () -> "john@example.com";
+
+        //when
+        ResponseEntity<String> response = cartController.mergeCart(principal, "1");
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+}
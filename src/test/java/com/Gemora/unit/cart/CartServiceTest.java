@@ -0,0 +1,116 @@
+package com.Gemora.unit.cart;
+
+import com.gemora.GemoraApplication;
+import com.gemora.cart.*;
+import com.gemora.product.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.Gemora.unit.product.ProductTestHelper.createProductDto;
+import static com.Gemora.unit.product.ProductTestHelper.createProductSummary;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class CartServiceTest {
+    private CartService cartService;
+    private ProductPriceCatalog productPriceCatalog;
+
+    @Mock
+    private ProductService productServiceMock;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        productPriceCatalog = new ProductPriceCatalog(productRepositoryMock);
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(1, "Golden ring", 19.99, "Rings", null)));
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(2, "Pearl necklace", 50.0, "Necklaces", null)));
+
+        when(productServiceMock.getProductById(1)).thenReturn(Optional.of(createProductDto(1, "Golden ring", 19.99, "Rings")));
+        when(productServiceMock.getProductById(2)).thenReturn(Optional.of(createProductDto(2, "Pearl necklace", 50.0, "Necklaces")));
+
+        CartStore cartStore = new InMemoryCartStore(new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+        cartService = new CartService(cartStore, productServiceMock, productPriceCatalog, 5, 2);
+    }
+
+    @Test
+    void addItem_AccumulatesQuantityAndComputesTotals_SameProductAddedTwice() {
+        //when
+        cartService.addItem("guest:abc", 1, 2);
+        CartDto cart = cartService.addItem("guest:abc", 1, 1);
+
+        //then
+        assertThat(cart.getItems()).containsExactly(new CartLineDto(1, "Golden ring", 3, 19.99, 59.97));
+        assertThat(cart.getTotalAmount()).isEqualTo(59.97);
+    }
+
+    @Test
+    void addItem_CapsQuantity_QuantityAboveLimit() {
+        //when
+        CartDto cart = cartService.addItem("guest:abc", 1, 10);
+
+        //then
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    void addItem_ThrowsProductNotFoundException_ProductDoesNotExist() {
+        //given
+        when(productServiceMock.getProductById(3)).thenReturn(Optional.empty());
+
+        //when & then
+        assertThrows(ProductNotFoundException.class, () -> cartService.addItem("guest:abc", 3, 1));
+    }
+
+    @Test
+    void getCart_UsesCurrentCatalogPrice_PriceChangedAfterAdding() {
+        //given
+        cartService.addItem("guest:abc", 2, 2);
+        productPriceCatalog.onProductChanged(ProductChangedEvent.updated(createProductSummary(2, "Pearl necklace", 45.5, "Necklaces", null)));
+
+        //when
+        CartDto cart = cartService.getCart("guest:abc");
+
+        //then
+        assertThat(cart.getTotalAmount()).isEqualTo(91.0);
+    }
+
+    @Test
+    void removeItem_RemovesProductFromCart_ProductInCart() {
+        //given
+        cartService.addItem("guest:abc", 1, 1);
+        cartService.addItem("guest:abc", 2, 1);
+
+        //when
+        CartDto cart = cartService.removeItem("guest:abc", 1);
+
+        //then
+        assertThat(cart.getItems()).extracting(CartLineDto::getProductId).containsExactly(2);
+    }
+
+    @Test
+    void mergeCarts_MovesGuestItemsIntoUserCart_BothCartsHaveItems() {
+        //given
+        cartService.addItem("user:john@example.com", 1, 1);
+        cartService.addItem("guest:abc", 1, 2);
+        cartService.addItem("guest:abc", 2, 1);
+
+        //when
+        CartDto cart = cartService.mergeCarts("user:john@example.com", "guest:abc");
+
+        //then
+        assertThat(cart.getItems()).containsExactly(
+                new CartLineDto(1, "Golden ring", 3, 19.99, 59.97),
+                new CartLineDto(2, "Pearl necklace", 1, 50.0, 50.0));
+        assertThat(cartService.getCart("guest:abc").getItems()).isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package com.Gemora.unit.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gemora.GemoraApplication;
+import com.gemora.cart.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class WriteBehindCartStoreTest {
+    private WriteBehindCartStore cartStore;
+
+    @Mock
+    private CartRepository cartRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryCartStore carts = new InMemoryCartStore(meterRegistry, 100, Duration.ofHours(1));
+
+        cartStore = new WriteBehindCartStore(carts, cartRepositoryMock, new ObjectMapper(), meterRegistry, 100);
+    }
+
+    @Test
+    void update_DoesNotTouchDatabaseUntilFlush_CartUpdatedSeveralTimes() {
+        //given
+        when(cartRepositoryMock.findById("guest:abc")).thenReturn(Optional.empty());
+
+        //when
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+
+        //then
+        verify(cartRepositoryMock, times(1)).findById("guest:abc");
+        verify(cartRepositoryMock, never()).saveAll(anyIterable());
+        assertThat(cartStore.find("guest:abc").orElseThrow().getItems().get(1).getQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_WritesLatestCartStateOnce_CartUpdatedSeveralTimes() {
+        //given
+        when(cartRepositoryMock.findById("guest:abc")).thenReturn(Optional.empty());
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 2, 99));
+
+        //when
+        cartStore.flush();
+        cartStore.flush();
+
+        //then
+        verify(cartRepositoryMock, times(1)).saveAll(argThat((Iterable<CartEntity> entities) -> {
+            CartEntity entity = entities.iterator().next();
+            return entity.getCartKey().equals("guest:abc") && entity.getItems().contains("\"quantity\":3");
+        }));
+    }
+
+    @Test
+    void flush_KeepsNewerWritePending_CartUpdatedDuringFlush() {
+        //given
+        when(cartRepositoryMock.findById("guest:abc")).thenReturn(Optional.empty());
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+        doAnswer(invocation -> {
+            cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+            return List.of();
+        }).doReturn(List.of()).when(cartRepositoryMock).saveAll(anyIterable());
+
+        //when
+        cartStore.flush();
+        cartStore.flush();
+
+        //then
+        verify(cartRepositoryMock, times(2)).saveAll(anyIterable());
+        verify(cartRepositoryMock).saveAll(argThat((Iterable<CartEntity> entities) ->
+                entities.iterator().next().getItems().contains("\"quantity\":2")));
+    }
+
+    @Test
+    void flush_DeletesRow_CartDeleted() {
+        //given
+        when(cartRepositoryMock.findById("guest:abc")).thenReturn(Optional.empty());
+        cartStore.update("guest:abc", cart -> cart.withItem(1, "Golden ring", 1, 99));
+        cartStore.delete("guest:abc");
+
+        //when
+        cartStore.flush();
+
+        //then
+        verify(cartRepositoryMock, times(1)).deleteAllByIdInBatch(List.of("guest:abc"));
+        verify(cartRepositoryMock, never()).saveAll(anyIterable());
+        assertThat(cartStore.find("guest:abc")).isEmpty();
+    }
+
+    @Test
+    void find_LoadsCartFromDatabase_CartNotInMemory() {
+        //given
+        when(cartRepositoryMock.findById("user:john@example.com")).thenReturn(Optional.of(new CartEntity(
+                "user:john@example.com", "[{\"productId\":2,\"name\":\"Pearl necklace\",\"quantity\":4}]", LocalDateTime.now())));
+
+        //when
+        Optional<Cart> cart = cartStore.find("user:john@example.com");
+        cartStore.find("user:john@example.com");
+
+        //then
+        assertThat(cart).isPresent();
+        assertThat(cart.get().getItems().get(2)).isEqualTo(new CartItem(2, "Pearl necklace", 4));
+        verify(cartRepositoryMock, times(1)).findById("user:john@example.com");
+    }
+}
@@ -0,0 +1,77 @@
+package com.Gemora.unit.config;
+
+import com.gemora.GemoraApplication;
+import com.gemora.config.JwtService;
+import com.gemora.user.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class JwtServiceTest {
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry, SECRET_KEY, 60000, 120000, 100);
+    }
+
+    @Test
+    void isTokenValid_ParsesTokenOnlyOnce_TokenUsedSeveralTimes() {
+        //given
+        User user = createUser();
+        String token = jwtService.generateToken(user);
+
+        //when
+        String username = jwtService.extractUsername(token);
+        boolean isTokenValid = jwtService.isTokenValid(token, user);
+
+        //then
+        assertThat(username).isEqualTo(user.getUsername());
+        assertTrue(isTokenValid);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void extractUsername_ThrowsException_TokenSignatureInvalid() {
+        //given
+        String token = jwtService.generateToken(createUser());
+        JwtService otherJwtService = new JwtService(new SimpleMeterRegistry(),
+                "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437", 60000, 120000, 100);
+
+        //when & then
+        assertThrows(JwtException.class, () -> otherJwtService.extractUsername(token));
+    }
+
+    @Test
+    void extractUsername_ThrowsException_TokenExpired() {
+        //given
+        JwtService expiringJwtService = new JwtService(new SimpleMeterRegistry(), SECRET_KEY, -1000, 120000, 100);
+        String token = expiringJwtService.generateToken(createUser());
+
+        //when & then
+        assertThrows(ExpiredJwtException.class, () -> expiringJwtService.extractUsername(token));
+        assertThrows(ExpiredJwtException.class, () -> expiringJwtService.extractUsername(token));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.claims")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
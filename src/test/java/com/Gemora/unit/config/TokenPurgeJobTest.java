@@ -0,0 +1,80 @@
+package com.Gemora.unit.config;
+
+import com.gemora.GemoraApplication;
+import com.gemora.security.token.TokenPurgeJob;
+import com.gemora.security.token.TokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class TokenPurgeJobTest {
+    private TokenPurgeJob tokenPurgeJob;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private TokenRepository tokenRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenPurgeJob = new TokenPurgeJob(tokenRepositoryMock, meterRegistry, 24, 86400000, 2, 10, 0);
+    }
+
+    @Test
+    void purge_DeletesTokensInBatches_SeveralBatchesOfDeadTokens() {
+        //given
+        when(tokenRepositoryMock.findPurgeableTokenIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1, 2))
+                .thenReturn(List.of(3));
+        when(tokenRepositoryMock.deleteByIdIn(List.of(1, 2))).thenReturn(2);
+        when(tokenRepositoryMock.deleteByIdIn(List.of(3))).thenReturn(1);
+        when(tokenRepositoryMock.count()).thenReturn(5L);
+
+        //when
+        tokenPurgeJob.purge();
+
+        //then
+        verify(tokenRepositoryMock, times(2)).deleteByIdIn(any());
+        assertThat(meterRegistry.get("token.purge.deleted").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("token.table.size").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void purge_StopsAfterMaxBatches_MoreDeadTokensThanOneRunAllows() {
+        //given
+        tokenPurgeJob = new TokenPurgeJob(tokenRepositoryMock, meterRegistry, 24, 86400000, 2, 3, 0);
+        when(tokenRepositoryMock.findPurgeableTokenIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1, 2));
+        when(tokenRepositoryMock.deleteByIdIn(any())).thenReturn(2);
+
+        //when
+        tokenPurgeJob.purge();
+
+        //then
+        verify(tokenRepositoryMock, times(3)).deleteByIdIn(any());
+    }
+
+    @Test
+    void purge_DeletesNothing_NoDeadTokens() {
+        //given
+        when(tokenRepositoryMock.findPurgeableTokenIds(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        //when
+        tokenPurgeJob.purge();
+
+        //then
+        verify(tokenRepositoryMock, never()).deleteByIdIn(any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.Gemora.unit.config;
+
+import com.gemora.GemoraApplication;
+import com.gemora.security.token.Token;
+import com.gemora.security.token.TokenRepository;
+import com.gemora.security.token.TokenStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class TokenStatusCacheTest {
+    private static final String TOKEN = "sampleAccessToken";
+    private static final String USERNAME = "johndoe@gmail.com";
+
+    private TokenStatusCache tokenStatusCache;
+
+    @Mock
+    private TokenRepository tokenRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        tokenStatusCache = new TokenStatusCache(tokenRepositoryMock, new SimpleMeterRegistry(), 100, 60, 100, 604800000);
+    }
+
+    @Test
+    void isTokenActive_QueriesDatabaseOnce_TokenCheckedSeveralTimes() {
+        //given
+        when(tokenRepositoryMock.findByToken(TOKEN)).thenReturn(Optional.of(createToken(false)));
+
+        //when
+        boolean firstResult = tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+        boolean secondResult = tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //then
+        assertTrue(firstResult);
+        assertTrue(secondResult);
+        verify(tokenRepositoryMock, times(1)).findByToken(TOKEN);
+    }
+
+    @Test
+    void isTokenActive_ReturnsFalse_UserTokensRevokedAfterCaching() {
+        //given
+        when(tokenRepositoryMock.findByToken(TOKEN))
+                .thenReturn(Optional.of(createToken(false)))
+                .thenReturn(Optional.of(createToken(true)));
+        tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //when
+        tokenStatusCache.revokeAll(USERNAME);
+        boolean result = tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //then
+        assertFalse(result);
+        verify(tokenRepositoryMock, times(2)).findByToken(TOKEN);
+    }
+
+    @Test
+    void isTokenActive_ReturnsFalse_RevocationEvictedForSize() {
+        //given
+        tokenStatusCache = new TokenStatusCache(tokenRepositoryMock, new SimpleMeterRegistry(), 100, 60, 0, 604800000);
+        when(tokenRepositoryMock.findByToken(TOKEN))
+                .thenReturn(Optional.of(createToken(false)))
+                .thenReturn(Optional.of(createToken(true)));
+        tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //when
+        tokenStatusCache.revokeAll(USERNAME);
+        boolean result = tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //then
+        assertFalse(result);
+        verify(tokenRepositoryMock, times(2)).findByToken(TOKEN);
+    }
+
+    @Test
+    void isTokenActive_ReturnsFalse_TokenUnknown() {
+        //given
+        when(tokenRepositoryMock.findByToken(TOKEN)).thenReturn(Optional.empty());
+
+        //when
+        boolean result = tokenStatusCache.isTokenActive(TOKEN, USERNAME);
+
+        //then
+        assertFalse(result);
+    }
+
+    private Token createToken(boolean revoked) {
+        return Token.builder()
+                .token(TOKEN)
+                .revoked(revoked)
+                .expired(revoked)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.Gemora.unit.order;
 import com.gemora.GemoraApplication;
 import com.gemora.order.*;
 import com.gemora.order.OrderCreateRequest;
+import com.gemora.payu.PayUException;
 import com.gemora.user.User;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.Gemora.unit.TestUtils.getBindingResult;
 import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
@@ -28,10 +31,12 @@ public class OrderControllerTest {
     private OrderController orderController;
     @Mock
     private OrderService orderService;
+    @Mock
+    private OrderExportService orderExportService;
 
     @BeforeEach
     void init() {
-        orderController = new OrderController(orderService);
+        orderController = new OrderController(orderService, orderExportService);
     }
 
     @Test
@@ -40,10 +45,10 @@ public class OrderControllerTest {
         OrderCreateRequest validRequest = new OrderCreateRequest("Valid description", "100.0");
         OrderCreateResponse successResponse = new OrderCreateResponse(null, true);
 
-        when(orderService.createOrder(eq(validRequest))).thenReturn(successResponse);
+        when(orderService.createOrder(eq(validRequest))).thenReturn(CompletableFuture.completedFuture(successResponse));
 
         //when
-        ResponseEntity<String> response = orderController.createOrder(validRequest);
+        ResponseEntity<String> response = orderController.createOrder(validRequest).join();
 
         //then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -55,16 +60,47 @@ public class OrderControllerTest {
         OrderCreateRequest invalidRequest = new OrderCreateRequest(null, "Invalid totalAmount");
         OrderCreateResponse errorResponse = new OrderCreateResponse(null, false);
 
-        when(orderService.createOrder(eq(invalidRequest))).thenReturn(errorResponse);
+        when(orderService.createOrder(eq(invalidRequest))).thenReturn(CompletableFuture.completedFuture(errorResponse));
 
         //when
-        ResponseEntity<String> response = orderController.createOrder(invalidRequest);
+        ResponseEntity<String> response = orderController.createOrder(invalidRequest).join();
 
         //then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
     }
 
+    @Test
+    public void createOrder_ReturnsServiceUnavailableStatus_CheckoutBulkheadFull() {
+        //given
+        OrderCreateRequest request = new OrderCreateRequest("Valid description", "100.0");
+
+        when(orderService.createOrder(eq(request))).thenReturn(CompletableFuture.failedFuture(
+                new CheckoutUnavailableException("Checkout is temporarily unavailable, please try again.")));
+
+        //when
+        ResponseEntity<String> response = orderController.createOrder(request).join();
+
+        //then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    public void createOrder_ReturnsBadGatewayStatus_PayURequestFailed() {
+        //given
+        OrderCreateRequest request = new OrderCreateRequest("Valid description", "100.0");
+
+        when(orderService.createOrder(eq(request))).thenReturn(CompletableFuture.failedFuture(
+                new CompletionException(new PayUException("PayU order request failed."))));
+
+        //when
+        ResponseEntity<String> response = orderController.createOrder(request).join();
+
+        //then
+        assertEquals(HttpStatus.BAD_GATEWAY, response.getStatusCode());
+        assertEquals("PayU order request failed.", response.getBody());
+    }
+
     @Test
     void saveOrder_ReturnsCreatedStatusAndSaveOrderWasCalledOnce_ValidOrder() {
         //given
@@ -116,15 +152,66 @@ public class OrderControllerTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
+    @Test
+    void saveOrders_ReturnsCreatedStatusWithSavedCount_ValidBatch() {
+        //given
+        List<Order> orders = List.of(
+                createOrder(1, createOrderSimplifiedProductList(), createUser(), 100.0, createShippingDetails()),
+                createOrder(2, createOrderSimplifiedProductList(), createUser(), 200.0, createShippingDetails()));
+
+        BindingResult bindingResult = getBindingResult(false);
+
+        when(orderService.saveOrders(orders)).thenReturn(2);
+
+        //when
+        ResponseEntity<String> response = orderController.saveOrders(new OrderBatchRequest(orders), bindingResult);
+
+        //then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("2 orders added successfully.", response.getBody());
+    }
+
+    @Test
+    void saveOrders_ReturnsPayloadTooLargeStatus_BatchExceedsLimit() {
+        //given
+        List<Order> orders = List.of(new Order());
+
+        BindingResult bindingResult = getBindingResult(false);
+
+        when(orderService.saveOrders(orders)).thenThrow(new OrderBatchTooLargeException("A batch can contain at most 1 orders."));
+
+        //when
+        ResponseEntity<String> response = orderController.saveOrders(new OrderBatchRequest(orders), bindingResult);
+
+        //then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+    }
+
+    @Test
+    void saveOrders_ReturnsBadRequestStatus_OrderIsInvalid() {
+        //given
+        List<Order> orders = List.of(new Order());
+
+        BindingResult bindingResult = getBindingResult(false);
+
+        when(orderService.saveOrders(orders)).thenThrow(new IllegalArgumentException("Unknown product."));
+
+        //when
+        ResponseEntity<String> response = orderController.saveOrders(new OrderBatchRequest(orders), bindingResult);
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     void getAllOrders_ReturnsExpectedOrdersList_OrdersAreAvailable() {
         //given
         List<OrderDto> expectedOrders = createExpectedOrders();
 
-        when(orderService.getAllOrders()).thenReturn(expectedOrders);
+        when(orderService.getAllOrders(any(OrderFilter.class), isNull(), isNull())).thenReturn(expectedOrders);
 
         //when
-        ResponseEntity<List<OrderDto>> response = orderController.getAllOrders();
+        ResponseEntity<List<OrderDto>> response = orderController.getAllOrders(new OrderFilter(), null, null);
 
         //then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -138,10 +225,10 @@ public class OrderControllerTest {
     @Test
     void getAllOrders_ReturnsNotFoundStatus_OrdersDoesNotExist() {
         //given
-        when(orderService.getAllOrders()).thenReturn(Collections.emptyList());
+        when(orderService.getAllOrders(any(OrderFilter.class), isNull(), isNull())).thenReturn(Collections.emptyList());
 
         //when
-        ResponseEntity<List<OrderDto>> response = orderController.getAllOrders();
+        ResponseEntity<List<OrderDto>> response = orderController.getAllOrders(new OrderFilter(), null, null);
 
         //then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
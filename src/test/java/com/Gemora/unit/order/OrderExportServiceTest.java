@@ -0,0 +1,76 @@
+package com.Gemora.unit.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gemora.GemoraApplication;
+import com.gemora.order.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class OrderExportServiceTest {
+    private OrderExportService orderExportService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void init() {
+        orderExportService = new OrderExportService(orderRepository, new ObjectMapper());
+    }
+
+    @Test
+    void exportOrders_WritesOneEscapedLinePerItem_CsvFormat() {
+        //given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 15, 10, 30);
+        OrderFilter filter = new OrderFilter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(orderRepository.streamExportRows(eq(filter), anyInt())).thenReturn(Stream.of(
+                new OrderExportRow(1, dateTime, 7, "john@example.com", 300.0, 10, "Ring, gold", 1, 100.0),
+                new OrderExportRow(1, dateTime, 7, "john@example.com", 300.0, 11, "Chain \"Classic\"", 2, 100.0)));
+
+        //when
+        orderExportService.exportOrders(filter, OrderExportFormat.CSV, outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).isEqualTo("1,2024-01-15T10:30,7,john@example.com,300.0,10,\"Ring, gold\",1,100.0");
+        assertThat(lines[2]).isEqualTo("1,2024-01-15T10:30,7,john@example.com,300.0,11,\"Chain \"\"Classic\"\"\",2,100.0");
+    }
+
+    @Test
+    void exportOrders_GroupsItemsIntoOneLinePerOrder_NdjsonFormat() throws Exception {
+        //given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 15, 10, 30);
+        OrderFilter filter = new OrderFilter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        when(orderRepository.streamExportRows(eq(filter), anyInt())).thenReturn(Stream.of(
+                new OrderExportRow(1, dateTime, 7, "john@example.com", 300.0, 10, "Ring", 1, 100.0),
+                new OrderExportRow(1, dateTime, 7, "john@example.com", 300.0, 11, "Chain", 2, 100.0),
+                new OrderExportRow(2, dateTime, 8, "jane@example.com", 50.0, 12, "Earrings", 1, 50.0)));
+
+        //when
+        orderExportService.exportOrders(filter, OrderExportFormat.NDJSON, outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[0]).get("products")).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("userEmail").asText()).isEqualTo("jane@example.com");
+        assertThat(objectMapper.readTree(lines[1]).get("products")).hasSize(1);
+    }
+}
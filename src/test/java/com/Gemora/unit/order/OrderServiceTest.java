@@ -5,19 +5,29 @@ import com.gemora.GemoraApplication;
 import com.gemora.order.*;
 import com.gemora.payu.CreateOrderPayURequest;
 import com.gemora.order.OrderCreateRequest;
+import com.gemora.payu.PayUException;
 import com.gemora.payu.PayUService;
 import com.gemora.payu.PayUTokenService;
+import com.gemora.product.ProductChangedEvent;
+import com.gemora.product.ProductPriceCatalog;
+import com.gemora.product.ProductRepository;
 import com.gemora.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.Gemora.unit.auth.AuthenticationTestHelper.createUser;
 import static com.Gemora.unit.order.OrderTestHelper.*;
+import static com.Gemora.unit.product.ProductTestHelper.createProductSummary;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -34,9 +44,20 @@ public class OrderServiceTest {
     @Mock
     private OrderRepository orderRepositoryMock;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
     @BeforeEach
     void init() {
-        orderService = new OrderService(orderRepositoryMock, payUService);
+        ProductPriceCatalog productPriceCatalog = new ProductPriceCatalog(productRepositoryMock);
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(1, "Product Name 1", 10.0, "Rings", LocalDateTime.now())));
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(2, "Product Name 2", 15.0, "Rings", LocalDateTime.now())));
+
+        orderService = new OrderService(orderRepositoryMock, payUService, new CheckoutBulkhead(new SimpleMeterRegistry(), 2, 2, 5000),
+                productPriceCatalog, eventPublisherMock);
     }
 
     @Test
@@ -50,7 +71,7 @@ public class OrderServiceTest {
         when(payUService.initiatePayUPayment(any(CreateOrderPayURequest.class))).thenReturn(redirectUrl);
 
         //when
-        OrderCreateResponse response = orderService.createOrder(orderCreateRequest);
+        OrderCreateResponse response = orderService.createOrder(orderCreateRequest).join();
 
         //then
         assertTrue(response.isSuccess());
@@ -68,13 +89,29 @@ public class OrderServiceTest {
         when(payUService.initiatePayUPayment(any(CreateOrderPayURequest.class))).thenReturn(emptyRedirectUrl);
 
         //when
-        OrderCreateResponse response = orderService.createOrder(orderCreateRequest);
+        OrderCreateResponse response = orderService.createOrder(orderCreateRequest).join();
 
         //then
         assertFalse(response.isSuccess());
         assertNull(response.getData());
     }
 
+    @Test
+    public void createOrder_CompletesExceptionally_PayURequestFailed() {
+        //given
+        OrderCreateRequest orderCreateRequest = new OrderCreateRequest("Test order", "200");
+
+        when(payUService.initiatePayUPayment(any(CreateOrderPayURequest.class)))
+                .thenThrow(new PayUException("PayU order request failed."));
+
+        //when
+        CompletableFuture<OrderCreateResponse> response = orderService.createOrder(orderCreateRequest);
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, response::join);
+        assertInstanceOf(PayUException.class, exception.getCause());
+    }
+
     @Test
     public void saveOrder_OrderRequestWasPassed_SaveWasCalledOnce() {
         //given
@@ -86,36 +123,146 @@ public class OrderServiceTest {
 
         //then
         verify(orderRepositoryMock, times(1)).save(orderToSave);
+        verify(eventPublisherMock, times(1)).publishEvent(argThat((Object event) -> event instanceof OrderSavedEvent savedEvent
+                && savedEvent.getOrder() == orderToSave));
+    }
+
+    @Test
+    void saveOrder_ThrowsOrderPriceMismatchException_LinePriceDiffersFromCatalog() {
+        //given
+        Order order = getMockedOrders().get(0);
+        order.getProducts().get(0).setPrice(1.0);
+
+        //when & then
+        assertThrows(OrderPriceMismatchException.class, () -> orderService.saveOrder(order));
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
+    @Test
+    void saveOrder_ThrowsOrderPriceMismatchException_TotalAmountDiffersFromLines() {
+        //given
+        Order order = getMockedOrders().get(0);
+        order.setTotalAmount(1.0);
+
+        //when
+        OrderPriceMismatchException exception = assertThrows(OrderPriceMismatchException.class, () -> orderService.saveOrder(order));
+
+        //then
+        assertEquals("Total amount should be 95.0.", exception.getMessage());
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
+    @Test
+    void saveOrder_ThrowsOrderPriceMismatchException_ProductNotInCatalog() {
+        //given
+        Order order = getMockedOrders().get(0);
+        order.getProducts().get(0).setId(99);
+
+        //when & then
+        assertThrows(OrderPriceMismatchException.class, () -> orderService.saveOrder(order));
+        verifyNoInteractions(orderRepositoryMock);
     }
 
     @Test
-    void getAllOrders_ReturnsExpectedListOfOrders_OrderListContainsOrders() {
+    void saveOrders_SavesInBatchesAndPublishesEventPerOrder_ValidBatch() {
+        //given
+        List<Order> orders = getMockedOrders();
+        when(orderRepositoryMock.saveAllInBatches(orders, 50)).thenReturn(orders);
+
+        //when
+        int savedOrders = orderService.saveOrders(orders);
+
+        //then
+        assertEquals(2, savedOrders);
+        verify(orderRepositoryMock, times(1)).saveAllInBatches(orders, 50);
+        verify(eventPublisherMock, times(2)).publishEvent(any(OrderSavedEvent.class));
+    }
+
+    @Test
+    void saveOrders_KeepsRecordedLinePrices_CatalogPriceChangedOrProductDeleted() {
+        //given
+        List<Order> orders = getMockedOrders();
+        orders.get(0).getProducts().get(0).setId(99);
+        when(orderRepositoryMock.saveAllInBatches(orders, 50)).thenReturn(orders);
+
+        //when
+        int savedOrders = orderService.saveOrders(orders);
+
+        //then
+        assertEquals(2, savedOrders);
+        verify(orderRepositoryMock, times(1)).saveAllInBatches(orders, 50);
+    }
+
+    @Test
+    void saveOrders_ThrowsOrderPriceMismatchException_TotalAmountDiffersFromLines() {
+        //given
+        List<Order> orders = getMockedOrders();
+        orders.get(1).setTotalAmount(1.0);
+
+        //when & then
+        assertThrows(OrderPriceMismatchException.class, () -> orderService.saveOrders(orders));
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
+    @Test
+    void saveOrders_ThrowsOrderBatchTooLargeException_BatchExceedsMaxSize() {
+        //given
+        List<Order> orders = Collections.nCopies(1001, new Order());
+
+        //when & then
+        assertThrows(OrderBatchTooLargeException.class, () -> orderService.saveOrders(orders));
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
+    @Test
+    void getAllOrders_ReturnsOrdersInPageOrder_OrderListContainsOrders() {
         //given
         List<Order> mockedOrders = getMockedOrders();
+        OrderFilter filter = new OrderFilter();
 
-        when(orderRepositoryMock.findAll()).thenReturn(mockedOrders);
+        when(orderRepositoryMock.findOrderIds(filter, 20, 20)).thenReturn(List.of(2, 1));
+        when(orderRepositoryMock.findAllByIdIn(List.of(2, 1))).thenReturn(mockedOrders);
 
         //when
-        List<OrderDto> allOrders = orderService.getAllOrders();
+        List<OrderDto> allOrders = orderService.getAllOrders(filter, 1, null);
 
         //then
-        verify(orderRepositoryMock, times(1)).findAll();
-        assertEquals(allOrders.size(), mockedOrders.size());
+        verify(orderRepositoryMock, times(1)).findOrderIds(filter, 20, 20);
+        assertEquals(mockedOrders.size(), allOrders.size());
+        assertEquals(2, allOrders.get(0).getId());
+        assertEquals(1, allOrders.get(1).getId());
     }
 
     @Test
     public void getAllOrders_ReturnsEmptyList_OrdersDoesNotExist() {
         //given
-        when(orderRepositoryMock.findAll()).thenReturn(Collections.emptyList());
+        OrderFilter filter = new OrderFilter();
+
+        when(orderRepositoryMock.findOrderIds(filter, 0, 20)).thenReturn(Collections.emptyList());
 
         //when
-        List<OrderDto> allOrders = orderService.getAllOrders();
+        List<OrderDto> allOrders = orderService.getAllOrders(filter, null, null);
 
         //then
-        verify(orderRepositoryMock, times(1)).findAll();
+        verify(orderRepositoryMock, times(1)).findOrderIds(filter, 0, 20);
+        verify(orderRepositoryMock, never()).findAllByIdIn(anyCollection());
         assertTrue(allOrders.isEmpty());
     }
 
+    @Test
+    public void getAllOrders_ThrowsIllegalArgumentException_PageSizeTooLarge() {
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> orderService.getAllOrders(new OrderFilter(), 0, 101));
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
+    @Test
+    public void getAllOrders_ThrowsIllegalArgumentException_PageOffsetOverflows() {
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> orderService.getAllOrders(new OrderFilter(), Integer.MAX_VALUE, 100));
+        verifyNoInteractions(orderRepositoryMock);
+    }
+
     @Test
     public void getOrdersByUserId_ReturnsListOfOrders_ForSpecificUser() {
         //given
@@ -139,8 +286,8 @@ public class OrderServiceTest {
 
         ShippingDetails shippingDetails = createShippingDetails();
 
-        Order order1 = createOrder(1, orderSimplifiedProducts, user, 100.0, shippingDetails);
-        Order order2 = createOrder(2, orderSimplifiedProducts, user, 200.0, shippingDetails);
+        Order order1 = createOrder(1, orderSimplifiedProducts, user, 95.0, shippingDetails);
+        Order order2 = createOrder(2, orderSimplifiedProducts, user, 95.0, shippingDetails);
 
         return List.of(order1, order2);
     }
@@ -0,0 +1,96 @@
+package com.Gemora.unit.payu;
+
+import com.gemora.GemoraApplication;
+import com.gemora.payu.PayUCircuitBreaker;
+import com.gemora.payu.PayUException;
+import com.gemora.payu.PayUUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class PayUCircuitBreakerTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void execute_FailsFastWithoutCallingGateway_CircuitOpen() {
+        //given
+        PayUCircuitBreaker circuitBreaker = new PayUCircuitBreaker(meterRegistry, 2, 60000, 1);
+        AtomicInteger calls = new AtomicInteger();
+        tripCircuit(circuitBreaker, 2);
+
+        //when & then
+        assertThrows(PayUUnavailableException.class, () -> circuitBreaker.execute(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        assertEquals(PayUCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThat(meterRegistry.get("payu.circuit-breaker.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ClosesCircuit_HalfOpenProbeSucceeds() {
+        //given
+        PayUCircuitBreaker circuitBreaker = new PayUCircuitBreaker(meterRegistry, 2, 0, 1);
+        tripCircuit(circuitBreaker, 2);
+
+        //when
+        String result = circuitBreaker.execute(() -> "redirectUri");
+
+        //then
+        assertEquals("redirectUri", result);
+        assertEquals(PayUCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertThat(meterRegistry.get("payu.circuit-breaker.transitions").tag("state", "half_open").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ReopensCircuit_HalfOpenProbeFails() {
+        //given
+        PayUCircuitBreaker circuitBreaker = new PayUCircuitBreaker(meterRegistry, 2, 0, 1);
+        tripCircuit(circuitBreaker, 2);
+
+        //when
+        tripCircuit(circuitBreaker, 1);
+
+        //then
+        assertEquals(PayUCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThat(meterRegistry.get("payu.circuit-breaker.transitions").tag("state", "open").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_KeepsCircuitClosed_GatewayRejectsRequest() {
+        //given
+        PayUCircuitBreaker circuitBreaker = new PayUCircuitBreaker(meterRegistry, 2, 60000, 1);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PayUException.class, () -> circuitBreaker.execute(() -> {
+                throw new PayUException("PayU order request failed.", new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+            }));
+        }
+
+        //then
+        assertEquals(PayUCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private void tripCircuit(PayUCircuitBreaker circuitBreaker, int failures) {
+        for (int i = 0; i < failures; i++) {
+            assertThrows(PayUException.class, () -> circuitBreaker.execute(() -> {
+                throw new PayUException("PayU order request failed.", new ResourceAccessException("Connection refused"));
+            }));
+        }
+    }
+}
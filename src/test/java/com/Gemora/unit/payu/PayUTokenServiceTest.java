@@ -0,0 +1,156 @@
+package com.Gemora.unit.payu;
+
+import com.gemora.GemoraApplication;
+import com.gemora.payu.PayUAuthorizationException;
+import com.gemora.payu.PayUTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class PayUTokenServiceTest {
+    private static final String AUTHORIZATION_URL = "http://localhost/pl/standard/user/oauth/authorize";
+
+    private PayUTokenService payUTokenService;
+    private MockRestServiceServer payUServer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        RestTemplate restTemplate = new RestTemplate();
+        payUServer = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        payUTokenService = new PayUTokenService(restTemplate, meterRegistry, "clientId", "clientSecret", AUTHORIZATION_URL, 60, 3, 1, 5);
+    }
+
+    @Test
+    void getToken_RequestsTokenOnce_TokenStillFresh() {
+        //given
+        expectTokenRequest(ExpectedCount.once(), "firstToken", 43199);
+
+        //when
+        String firstToken = payUTokenService.getToken();
+        String secondToken = payUTokenService.getToken();
+
+        //then
+        assertEquals("firstToken", firstToken);
+        assertEquals("firstToken", secondToken);
+        assertThat(tokenRequests("refresh")).isEqualTo(1);
+        assertThat(tokenRequests("hit")).isEqualTo(1);
+        payUServer.verify();
+    }
+
+    @Test
+    void getToken_RequestsNewToken_TokenExpired() {
+        //given
+        expectTokenRequest(ExpectedCount.twice(), "shortLivedToken", 0);
+
+        //when
+        payUTokenService.getToken();
+        payUTokenService.getToken();
+
+        //then
+        assertThat(tokenRequests("refresh")).isEqualTo(2);
+        payUServer.verify();
+    }
+
+    @Test
+    void getToken_RequestsTokenOnce_ConcurrentCallers() throws Exception {
+        //given
+        expectTokenRequest(ExpectedCount.once(), "sharedToken", 43199);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return payUTokenService.getToken();
+            }));
+        }
+        start.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertEquals("sharedToken", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        payUServer.verify();
+    }
+
+    @Test
+    void getToken_RetriesTokenRequest_GatewayReturnsServerError() {
+        //given
+        payUServer.expect(requestTo(startsWith(AUTHORIZATION_URL)))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withServerError());
+        expectTokenRequest(ExpectedCount.once(), "retriedToken", 43199);
+
+        //when
+        String token = payUTokenService.getToken();
+
+        //then
+        assertEquals("retriedToken", token);
+        assertThat(meterRegistry.get("payu.token.retries").counter().count()).isEqualTo(1);
+        payUServer.verify();
+    }
+
+    @Test
+    void getToken_GivesUpAfterMaxAttempts_GatewayKeepsFailing() {
+        //given
+        payUServer.expect(ExpectedCount.times(3), requestTo(startsWith(AUTHORIZATION_URL)))
+                .andRespond(withServerError());
+
+        //when & then
+        assertThrows(PayUAuthorizationException.class, () -> payUTokenService.getToken());
+        payUServer.verify();
+    }
+
+    @Test
+    void getToken_ThrowsPayUAuthorizationException_AuthorizationRejected() {
+        //given
+        payUServer.expect(requestTo(startsWith(AUTHORIZATION_URL)))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.UNAUTHORIZED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"invalid_client\",\"error_description\":\"Bad credentials\"}"));
+
+        //when & then
+        assertThrows(PayUAuthorizationException.class, () -> payUTokenService.getToken());
+        assertThat(tokenRequests("failure")).isEqualTo(1);
+    }
+
+    private void expectTokenRequest(ExpectedCount count, String accessToken, int expiresIn) {
+        payUServer.expect(count, requestTo(startsWith(AUTHORIZATION_URL)))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"access_token\":\"" + accessToken + "\",\"token_type\":\"bearer\"," +
+                        "\"expires_in\":" + expiresIn + ",\"grant_type\":\"client_credentials\"}", MediaType.APPLICATION_JSON));
+    }
+
+    private double tokenRequests(String result) {
+        return meterRegistry.get("payu.token.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,124 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.FileSystemImageStore;
+import com.gemora.product.ProductImageHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class FileSystemImageStoreTest {
+    @TempDir
+    Path root;
+
+    private FileSystemImageStore imageStore;
+
+    @BeforeEach
+    void init() {
+        imageStore = new FileSystemImageStore(root, Duration.ZERO);
+    }
+
+    @Test
+    void put_StoresIdenticalImagesOnce_SameContentUploadedTwice() throws IOException {
+        //given
+        byte[] image = new byte[]{1, 2, 3, 4};
+
+        //when
+        String firstDigest = imageStore.put(image);
+        String secondDigest = imageStore.put(image.clone());
+
+        //then
+        assertThat(firstDigest).isEqualTo(ProductImageHelper.digest(image)).isEqualTo(secondDigest);
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void transferTo_WritesStoredImage_ImageExists() {
+        //given
+        byte[] image = new byte[]{5, 6, 7};
+        String digest = imageStore.put(image);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        boolean transferred = imageStore.transferTo(digest, Channels.newChannel(outputStream));
+
+        //then
+        assertThat(transferred).isTrue();
+        assertThat(outputStream.toByteArray()).isEqualTo(image);
+        assertThat(imageStore.findFile(digest)).isPresent();
+    }
+
+    @Test
+    void transferTo_ReturnsFalse_ImageDeleted() {
+        //given
+        String digest = imageStore.put(new byte[]{8, 9});
+        imageStore.delete(digest);
+
+        //when
+        boolean transferred = imageStore.transferTo(digest, Channels.newChannel(new ByteArrayOutputStream()));
+
+        //then
+        assertThat(transferred).isFalse();
+        assertThat(imageStore.findFile(digest)).isEmpty();
+    }
+
+    @Test
+    void delete_KeepsImage_ImageStoredAgainWithinGracePeriod() throws IOException {
+        //given
+        FileSystemImageStore graceImageStore = new FileSystemImageStore(root, Duration.ofHours(1));
+        byte[] image = new byte[]{10, 11};
+        String digest = graceImageStore.put(image);
+        Path file = graceImageStore.findFile(digest).orElseThrow();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        graceImageStore.put(image);
+
+        //when
+        graceImageStore.delete(digest);
+
+        //then
+        assertThat(graceImageStore.findFile(digest)).isPresent();
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).containsExactly(file);
+        }
+    }
+
+    @Test
+    void delete_RemovesImage_ImageStoredBeforeGracePeriod() throws IOException {
+        //given
+        FileSystemImageStore graceImageStore = new FileSystemImageStore(root, Duration.ofHours(1));
+        String digest = graceImageStore.put(new byte[]{12, 13});
+        Files.setLastModifiedTime(graceImageStore.findFile(digest).orElseThrow(), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+        //when
+        graceImageStore.delete(digest);
+
+        //then
+        assertThat(graceImageStore.findFile(digest)).isEmpty();
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void findFile_ThrowsIllegalArgumentException_DigestIsNotHex() {
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> imageStore.findFile("../../etc/passwd"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.Gemora.unit.product.ProductTestHelper.createProductDto;
+import static com.Gemora.unit.product.ProductTestHelper.createProductSummary;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class ProductCatalogCacheTest {
+    private static final ProductListKey RINGS_ASCENDING = new ProductListKey("RINGS", SortType.ASCENDING);
+    private static final ProductListKey PENDANTS_ASCENDING = new ProductListKey("PENDANTS", SortType.ASCENDING);
+    private static final ProductListKey ALL_ASCENDING = new ProductListKey(null, SortType.ASCENDING);
+
+    private ProductCatalogCache productCatalogCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void init() {
+        productCatalogCache = new ProductCatalogCache(new SimpleMeterRegistry(), 100, 100, 600);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getList_LoadsOnce_KeyRequestedTwice() {
+        //when
+        productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+        List<ProductDto> products = productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+
+        //then
+        assertThat(products).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void onProductChanged_InvalidatesOnlyAffectedLists_ProductCreated() {
+        //given
+        productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+        productCatalogCache.getList(PENDANTS_ASCENDING, () -> load(2, "PENDANTS"));
+        productCatalogCache.getList(ALL_ASCENDING, () -> load(1, "RINGS"));
+
+        //when
+        productCatalogCache.onProductChanged(ProductChangedEvent.created(createProductSummary(3, "New ring", 100, "RINGS", null)));
+
+        productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+        productCatalogCache.getList(PENDANTS_ASCENDING, () -> load(2, "PENDANTS"));
+        productCatalogCache.getList(ALL_ASCENDING, () -> load(1, "RINGS"));
+
+        //then
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    void onProductChanged_InvalidatesListsOfPreviousCategory_ProductMovedToOtherCategory() {
+        //given
+        productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+        productCatalogCache.getList(PENDANTS_ASCENDING, () -> load(2, "PENDANTS"));
+
+        //when
+        productCatalogCache.onProductChanged(ProductChangedEvent.updated(createProductSummary(1, "Moved", 100, "EARRINGS", null)));
+
+        productCatalogCache.getList(RINGS_ASCENDING, () -> load(1, "RINGS"));
+        productCatalogCache.getList(PENDANTS_ASCENDING, () -> load(2, "PENDANTS"));
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void onProductChanged_EvictsProductDetails_ProductDeleted() {
+        //given
+        productCatalogCache.getProduct(1, () -> Optional.of(createProductDto(1, "Product name", 100, "RINGS")));
+
+        //when
+        productCatalogCache.onProductChanged(ProductChangedEvent.deleted(1));
+        Optional<ProductDto> product = productCatalogCache.getProduct(1, Optional::empty);
+
+        //then
+        assertThat(product).isEmpty();
+    }
+
+    private List<ProductDto> load(int productId, String category) {
+        loads.incrementAndGet();
+        return List.of(createProductDto(productId, "Product name", 100, category));
+    }
+}
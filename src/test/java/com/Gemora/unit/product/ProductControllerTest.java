@@ -9,12 +9,23 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static com.Gemora.unit.TestUtils.getBindingResult;
+import static com.Gemora.unit.product.ProductTestHelper.createProductDetails;
 import static com.Gemora.unit.product.ProductTestHelper.createProductDto;
 import static com.Gemora.unit.product.ProductTestHelper.createProductRequest;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,9 +39,15 @@ public class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ProductImageService productImageService;
+
+    private ProductCatalogVersion productCatalogVersion;
+
     @BeforeEach
     void init() {
-        productController = new ProductController(productService);
+        productCatalogVersion = new ProductCatalogVersion();
+        productController = new ProductController(productService, productImageService, productCatalogVersion);
     }
 
     @Test
@@ -65,6 +82,116 @@ public class ProductControllerTest {
         assertThat(response.getBody()).isNull();
     }
 
+    @Test
+    void getProductImage_ReturnsOkStatusWithCachingHeaders_ImageExists() {
+        //given
+        int productId = 10;
+        ProductImageMetadata metadata = new ProductImageMetadata(productId, "image/png", "abc123", LocalDateTime.now());
+
+        when(productImageService.getImageMetadata(productId, ImageRendition.FULL)).thenReturn(Optional.of(metadata));
+
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(productId, "full",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products/10/image"), new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc123\"");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(response.getHeaders().getLastModified()).isPositive();
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    @Test
+    void getProductImage_HandsFileToContainerSendfile_ContainerSupportsSendfile() {
+        //given
+        int productId = 10;
+        Path imageFile = Path.of("images", "ab", "cd", "abcd");
+        ProductImageMetadata metadata = new ProductImageMetadata(productId, "image/jpeg", "abcd", LocalDateTime.now());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/10/image");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        when(productImageService.getImageMetadata(productId, ImageRendition.FULL)).thenReturn(Optional.of(metadata));
+        when(productImageService.findImageFile("abcd")).thenReturn(Optional.of(imageFile));
+
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(productId, "full",
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNull();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(imageFile.toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        verify(productImageService, never()).writeImage(any(), any());
+    }
+
+    @Test
+    void getProductImage_ReturnsNotModifiedStatus_ETagMatches() {
+        //given
+        int productId = 10;
+        ProductImageMetadata metadata = new ProductImageMetadata(productId, "image/png", "abc123", LocalDateTime.now());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/10/image");
+        request.addHeader("If-None-Match", "\"abc123\"");
+
+        when(productImageService.getImageMetadata(productId, ImageRendition.FULL)).thenReturn(Optional.of(metadata));
+
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(productId, "full",
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(productImageService, never()).writeImage(any(), any());
+    }
+
+    @Test
+    void getProductImage_ReturnsNotFoundStatus_ImageNotExist() {
+        //given
+        int productId = 999;
+
+        when(productImageService.getImageMetadata(productId, ImageRendition.FULL)).thenReturn(Optional.empty());
+
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(productId, "full",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products/999/image"), new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getProductImage_UsesRequestedRendition_ThumbnailRequested() {
+        //given
+        int productId = 10;
+        ProductImageMetadata metadata = new ProductImageMetadata(productId, "image/jpeg", "thumb123", LocalDateTime.now());
+
+        when(productImageService.getImageMetadata(productId, ImageRendition.THUMBNAIL)).thenReturn(Optional.of(metadata));
+
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(productId, "thumbnail",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products/10/image"), new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"thumb123\"");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+    }
+
+    @Test
+    void getProductImage_ReturnsBadRequestStatus_UnknownRendition() {
+        //when
+        ResponseEntity<StreamingResponseBody> response = productController.getProductImage(10, "huge",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products/10/image"), new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(productImageService);
+    }
+
     @ParameterizedTest
     @EnumSource(SortType.class)
     void getAllProducts_ReturnsOkStatusWithExpectedList_ForAnySortByOptions(SortType sortType) {
@@ -77,10 +204,10 @@ public class ProductControllerTest {
 
         List<ProductDto> expectedProducts = List.of(productDto1, productDto2);
 
-        when(productService.getAllProducts(sortTypeValue)).thenReturn(expectedProducts);
+        when(productService.getAllProducts(sortTypeValue, null, null)).thenReturn(expectedProducts);
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getAllProducts(sortTypeValue);
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts(sortTypeValue, null, null, catalogRequest());
 
         //then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -97,16 +224,63 @@ public class ProductControllerTest {
         //given
         String sortType = "ascending";
 
-        when(productService.getAllProducts(sortType)).thenReturn(Collections.emptyList());
+        when(productService.getAllProducts(sortType, null, null)).thenReturn(Collections.emptyList());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getAllProducts(sortType);
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts(sortType, null, null, catalogRequest());
 
         //then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
     }
 
+    @Test
+    void getAllProducts_ReturnsWeakCatalogETag_ProductsExist() {
+        //given
+        when(productService.getAllProducts("newest", null, null)).thenReturn(List.of(createProductDto(1, "Product name 1", 100, "RINGS")));
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts("newest", null, null, catalogRequest());
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(productCatalogVersion.getETag()).startsWith("W/");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
+    @Test
+    void getAllProducts_ReturnsNotModifiedWithoutQuery_CatalogUnchanged() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("If-None-Match", productCatalogVersion.getETag());
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts("newest", null, null,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getAllProducts_ReturnsOkStatus_CatalogChangedSinceETag() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("If-None-Match", productCatalogVersion.getETag());
+        productCatalogVersion.onProductChanged(ProductChangedEvent.deleted(1));
+
+        when(productService.getAllProducts("newest", null, null)).thenReturn(List.of(createProductDto(2, "Product name 2", 200, "RINGS")));
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts("newest", null, null,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        //then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(productCatalogVersion.getETag());
+    }
+
     @Test
     void createProduct_ReturnsCreatedStatusAndCreateProductWasCalledOnce_ValidProduct() {
         //given
@@ -159,6 +333,70 @@ public class ProductControllerTest {
         assertEquals(expectedErrorMessage, response.getBody());
     }
 
+    @Test
+    void createProduct_ReturnsCreatedStatusAndStreamsImageToService_ValidMultipartUpload() {
+        //given
+        ProductDetails productDetails = createProductDetails();
+        MockMultipartFile image = new MockMultipartFile("image", "ring.png", "image/png", new byte[]{1, 2, 3});
+        BindingResult bindingResult = getBindingResult(false);
+
+        //when
+        ResponseEntity<String> response = productController.createProduct(productDetails, bindingResult, image);
+
+        //then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("Product added successfully.", response.getBody());
+        verify(productService, times(1)).createProduct(productDetails, image);
+    }
+
+    @Test
+    void createProduct_ReturnsBadRequestStatus_EmptyMultipartImage() {
+        //given
+        MockMultipartFile image = new MockMultipartFile("image", new byte[0]);
+        BindingResult bindingResult = getBindingResult(false);
+
+        //when
+        ResponseEntity<String> response = productController.createProduct(createProductDetails(), bindingResult, image);
+
+        //then
+        verifyNoInteractions(productService);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void createProduct_ReturnsPayloadTooLargeStatus_MultipartImageExceedsLimit() {
+        //given
+        ReflectionTestUtils.setField(productController, "maxImageUploadSize", DataSize.ofBytes(2));
+        MockMultipartFile image = new MockMultipartFile("image", new byte[]{1, 2, 3});
+        BindingResult bindingResult = getBindingResult(false);
+
+        //when
+        ResponseEntity<String> response = productController.createProduct(createProductDetails(), bindingResult, image);
+
+        //then
+        verifyNoInteractions(productService);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+    }
+
+    @Test
+    void createProduct_ReturnsBadRequestStatus_ThrownInvalidProductImageException() {
+        //given
+        ProductDetails productDetails = createProductDetails();
+        MockMultipartFile image = new MockMultipartFile("image", new byte[]{1, 2, 3});
+        BindingResult bindingResult = getBindingResult(false);
+
+        doThrow(new InvalidProductImageException("Unsupported image format"))
+                .when(productService)
+                .createProduct(productDetails, image);
+
+        //when
+        ResponseEntity<String> response = productController.createProduct(productDetails, bindingResult, image);
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Unsupported image format", response.getBody());
+    }
+
     @ParameterizedTest
     @EnumSource(ProductCategory.class)
     void getProductsByCategory_ReturnsExpectedProductList_ForValidCategory(ProductCategory productCategory) {
@@ -170,10 +408,10 @@ public class ProductControllerTest {
 
         List<ProductDto> expectedProductDtos = List.of(productDto1, productDto2);
 
-        when(productService.getProductsByCategory(productCategoryValue)).thenReturn(expectedProductDtos);
+        when(productService.getProductsByCategory(productCategoryValue, null, null)).thenReturn(expectedProductDtos);
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getProductsByCategory(productCategoryValue);
+        ResponseEntity<List<ProductDto>> response = productController.getProductsByCategory(productCategoryValue, null, null, catalogRequest());
 
         //then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -184,10 +422,10 @@ public class ProductControllerTest {
     void getProductsByCategory_ReturnsNotFoundStatus_InvalidCategory() {
         //given
         String invalidCategoryName = "InvalidCategory";
-        when(productService.getProductsByCategory(invalidCategoryName)).thenReturn(List.of());
+        when(productService.getProductsByCategory(invalidCategoryName, null, null)).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getProductsByCategory(invalidCategoryName);
+        ResponseEntity<List<ProductDto>> response = productController.getProductsByCategory(invalidCategoryName, null, null, catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -205,16 +443,16 @@ public class ProductControllerTest {
 
         List<ProductDto> expectedProductDtos = List.of(productDto1, productDto2);
 
-        when(productService.getSortedProducts(category, sortTypeValue)).thenReturn(expectedProductDtos);
+        when(productService.getSortedProducts(category, sortTypeValue, null, null)).thenReturn(expectedProductDtos);
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(category, sortTypeValue);
+        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(category, sortTypeValue, null, null, catalogRequest());
 
         //then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(expectedProductDtos, response.getBody());
-        assertThat(expectedProductDtos.get(0).getImage()).isNotBlank();
-        assertThat(expectedProductDtos.get(1).getImage()).isNotBlank();
+        assertThat(expectedProductDtos.get(0).getImageUrl()).isNotBlank();
+        assertThat(expectedProductDtos.get(1).getImageUrl()).isNotBlank();
     }
 
     @Test
@@ -223,10 +461,10 @@ public class ProductControllerTest {
         String category = "BRACELETS";
         String invalidSortType = "InvalidSortType";
 
-        when(productService.getSortedProducts(category, invalidSortType)).thenReturn(List.of());
+        when(productService.getSortedProducts(category, invalidSortType, null, null)).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(category, invalidSortType);
+        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(category, invalidSortType, null, null, catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -238,15 +476,84 @@ public class ProductControllerTest {
         String invalidCategory = "InvalidCategory";
         String sortType = "ascending";
 
-        when(productService.getSortedProducts(invalidCategory, sortType)).thenReturn(List.of());
+        when(productService.getSortedProducts(invalidCategory, sortType, null, null)).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(invalidCategory, sortType);
+        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts(invalidCategory, sortType, null, null, catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    void scrollProducts_ReturnsOkStatusWithNextCursor_ProductsExist() {
+        //given
+        String sortType = "ascending";
+
+        ProductScrollResponse expectedResponse = new ProductScrollResponse(
+                List.of(createProductDto(1, "Product name 1", 100, "RINGS")), "next");
+
+        when(productService.scrollProducts(null, sortType, null, 1)).thenReturn(expectedResponse);
+
+        //when
+        ResponseEntity<ProductScrollResponse> response = productController.scrollProducts(null, sortType, null, 1, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void getAllProducts_ReturnsBadRequestStatus_PageSizeIsNotPositive() {
+        //given
+        when(productService.getAllProducts("newest", null, 0)).thenThrow(new IllegalArgumentException("Page size must be positive: 0"));
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts("newest", null, 0, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void getProductsByCategory_ReturnsBadRequestStatus_PageIndexIsNegative() {
+        //given
+        when(productService.getProductsByCategory("RINGS", -1, null)).thenThrow(new IllegalArgumentException("Page index must not be negative: -1"));
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getProductsByCategory("RINGS", -1, null, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void getSortedProducts_ReturnsBadRequestStatus_PageSizeIsNotPositive() {
+        //given
+        when(productService.getSortedProducts("RINGS", "ascending", null, 0)).thenThrow(new IllegalArgumentException("Page size must be positive: 0"));
+
+        //when
+        ResponseEntity<List<ProductDto>> response = productController.getSortedProducts("RINGS", "ascending", null, 0, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void scrollProducts_ReturnsBadRequestStatus_InvalidCursor() {
+        //given
+        String sortType = "ascending";
+        String cursor = "invalid";
+
+        when(productService.scrollProducts(null, sortType, cursor, null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        //when
+        ResponseEntity<ProductScrollResponse> response = productController.scrollProducts(null, sortType, cursor, null, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     void getFeaturedProducts_ReturnsOkStatusWithExpectedList_CategoryIsFeatured() {
         //given
@@ -260,7 +567,7 @@ public class ProductControllerTest {
         when(productService.getFeaturedProducts()).thenReturn(expectedFeaturedProducts);
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getFeaturedProducts();
+        ResponseEntity<List<ProductDto>> response = productController.getFeaturedProducts(catalogRequest());
 
         //then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -273,7 +580,7 @@ public class ProductControllerTest {
         when(productService.getFeaturedProducts()).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getFeaturedProducts();
+        ResponseEntity<List<ProductDto>> response = productController.getFeaturedProducts(catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -344,6 +651,39 @@ public class ProductControllerTest {
         verify(productService, times(1)).updateProductById(productId, productRequest);
     }
 
+    @Test
+    void updateProductById_KeepsCurrentImage_MultipartUploadWithoutImage() {
+        //given
+        int productId = 1;
+        ProductDetails productDetails = createProductDetails();
+        BindingResult bindingResult = getBindingResult(false);
+
+        //when
+        ResponseEntity<String> response = productController.updateProductById(productId, productDetails, bindingResult, null);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(productService, times(1)).updateProductById(productId, productDetails, null);
+    }
+
+    @Test
+    void updateProductById_ReturnsConflictStatus_NameTakenByOtherProduct() {
+        //given
+        int productId = 1;
+        ProductRequest productRequest = createProductRequest();
+        BindingResult bindingResult = getBindingResult(false);
+
+        doThrow(new ProductAlreadyExistsException("Product already exists in the database."))
+                .when(productService).updateProductById(productId, productRequest);
+
+        //when
+        ResponseEntity<String> response = productController.updateProductById(productId, productRequest, bindingResult);
+
+        //then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Product already exists in the database.", response.getBody());
+    }
+
     @Test
     void updateProductById_ReturnsBadRequestStatus_WhenBindingErrors() {
         //given
@@ -375,7 +715,7 @@ public class ProductControllerTest {
         when(productService.getProductBySearchTerm(searchTerm, sortType)).thenReturn(expectedSearchResults);
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, sortType);
+        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, sortType, catalogRequest());
 
         //then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -391,7 +731,7 @@ public class ProductControllerTest {
         when(productService.getProductBySearchTerm(searchTerm, sortType)).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, sortType);
+        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, sortType, catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -406,9 +746,45 @@ public class ProductControllerTest {
         when(productService.getProductBySearchTerm(searchTerm, invalidSortType)).thenReturn(List.of());
 
         //when
-        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, invalidSortType);
+        ResponseEntity<List<ProductDto>> response = productController.getProductBySearchTerm(searchTerm, invalidSortType, catalogRequest());
 
         //then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
+
+    @Test
+    void getSuggestions_ReturnsSuggestions_MatchingSuggestionsExist() {
+        //given
+        String prefix = "gol";
+        List<ProductSuggestion> expectedSuggestions = List.of(
+                new ProductSuggestion("Golden ring", ProductSuggestion.SuggestionType.NAME),
+                new ProductSuggestion("Goldie", ProductSuggestion.SuggestionType.MANUFACTURER));
+
+        when(productService.getSuggestions(prefix, 5)).thenReturn(expectedSuggestions);
+
+        //when
+        ResponseEntity<List<ProductSuggestion>> response = productController.getSuggestions(prefix, 5, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedSuggestions, response.getBody());
+    }
+
+    @Test
+    void getSuggestions_ReturnsNotFoundStatus_NoMatchingSuggestions() {
+        //given
+        String prefix = "xyz";
+
+        when(productService.getSuggestions(prefix, null)).thenReturn(List.of());
+
+        //when
+        ResponseEntity<List<ProductSuggestion>> response = productController.getSuggestions(prefix, null, catalogRequest());
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static ServletWebRequest catalogRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products"), new MockHttpServletResponse());
+    }
 }
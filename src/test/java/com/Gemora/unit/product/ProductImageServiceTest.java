@@ -0,0 +1,236 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class ProductImageServiceTest {
+    private ProductImageService productImageService;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
+    @Mock
+    private ProductImageRepository productImageRepositoryMock;
+
+    @Mock
+    private ImageStore imageStoreMock;
+
+    @BeforeEach
+    void init() {
+        productImageService = new ProductImageService(productRepositoryMock, productImageRepositoryMock, imageStoreMock);
+    }
+
+    @Test
+    void createRenditions_ScalesImageDownToEachRendition_LargeOpaqueImage() throws IOException {
+        //given
+        byte[] upload = createImage(2000, 1000, BufferedImage.TYPE_INT_RGB, "png");
+
+        //when
+        Map<ImageRendition, ProductImage> renditions = productImageService.createRenditions(new ByteArrayResource(upload));
+
+        //then
+        assertThat(renditions).containsOnlyKeys(ImageRendition.values());
+        assertThat(renditions.get(ImageRendition.THUMBNAIL).getWidth()).isEqualTo(240);
+        assertThat(renditions.get(ImageRendition.THUMBNAIL).getHeight()).isEqualTo(120);
+        assertThat(renditions.get(ImageRendition.CARD).getWidth()).isEqualTo(640);
+        assertThat(renditions.get(ImageRendition.FULL).getWidth()).isEqualTo(1600);
+        assertThat(renditions.values()).allSatisfy(rendition -> {
+            assertThat(rendition.getContentType()).isEqualTo("image/jpeg");
+            assertThat(rendition.getDigest()).isEqualTo(ProductImageHelper.digest(rendition.getData()));
+        });
+        assertThat(renditions.get(ImageRendition.THUMBNAIL).getData().length)
+                .isLessThan(renditions.get(ImageRendition.FULL).getData().length);
+    }
+
+    @Test
+    void createRenditions_KeepsSizeAndTransparency_SmallImageWithAlpha() throws IOException {
+        //given
+        byte[] upload = createImage(100, 80, BufferedImage.TYPE_INT_ARGB, "png");
+
+        //when
+        Map<ImageRendition, ProductImage> renditions = productImageService.createRenditions(new ByteArrayResource(upload));
+
+        //then
+        assertThat(renditions.values()).allSatisfy(rendition -> {
+            assertThat(rendition.getContentType()).isEqualTo("image/png");
+            assertThat(rendition.getWidth()).isEqualTo(100);
+            assertThat(rendition.getHeight()).isEqualTo(80);
+        });
+    }
+
+    @Test
+    void createRenditions_ThrowsInvalidProductImageException_UploadIsNotAnImage() {
+        //when & then
+        assertThrows(InvalidProductImageException.class, () -> productImageService.createRenditions(new ByteArrayResource(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    void replaceRenditions_DeletesOldRenditionsAndSavesNewOnes_ProductUpdated() {
+        //given
+        ProductImage thumbnail = ProductImage.builder().rendition(ImageRendition.THUMBNAIL).build();
+        List<ProductImage> renditions = List.of(thumbnail);
+
+        //when
+        productImageService.replaceRenditions(7, renditions);
+
+        //then
+        verify(productImageRepositoryMock, times(1)).deleteByProductId(7);
+        verify(productImageRepositoryMock, times(1)).saveAll(renditions);
+        assertThat(thumbnail.getProductId()).isEqualTo(7);
+    }
+
+    @Test
+    void replaceRenditions_MovesImageDataToImageStore_RenditionHasData() {
+        //given
+        byte[] data = new byte[]{1, 2, 3};
+        ProductImage thumbnail = ProductImage.builder().rendition(ImageRendition.THUMBNAIL).data(data).build();
+
+        when(imageStoreMock.put(data)).thenReturn("stored-digest");
+
+        //when
+        productImageService.replaceRenditions(7, List.of(thumbnail));
+
+        //then
+        assertThat(thumbnail.getData()).isNull();
+        assertThat(thumbnail.getDigest()).isEqualTo("stored-digest");
+    }
+
+    @Test
+    void replaceRenditions_DeletesOnlyUnreferencedImages_PreviousRenditionsReplaced() {
+        //given
+        when(productImageRepositoryMock.findDigestsByProductId(7)).thenReturn(List.of("shared", "orphan", "orphan"));
+        when(productImageRepositoryMock.existsByDigest("shared")).thenReturn(true);
+        when(productImageRepositoryMock.existsByDigest("orphan")).thenReturn(false);
+
+        //when
+        productImageService.replaceRenditions(7, List.of());
+
+        //then
+        verify(imageStoreMock, times(1)).delete("orphan");
+        verify(imageStoreMock, never()).delete("shared");
+    }
+
+    @Test
+    void getImageMetadata_ReturnsStoredMetadataWithoutMigration_RenditionStored() {
+        //given
+        ProductImageMetadata metadata = new ProductImageMetadata(7, "image/jpeg", "digest", LocalDateTime.now());
+
+        when(productImageRepositoryMock.findStoredMetadata(7, ImageRendition.CARD)).thenReturn(Optional.of(metadata));
+
+        //when
+        Optional<ProductImageMetadata> result = productImageService.getImageMetadata(7, ImageRendition.CARD);
+
+        //then
+        assertThat(result).contains(metadata);
+        verify(productRepositoryMock, never()).findById(any());
+        verifyNoInteractions(imageStoreMock);
+    }
+
+    @Test
+    void getImageMetadata_MigratesLegacyProductImage_ImageStoredInProductRow() throws IOException {
+        //given
+        byte[] legacyImage = createImage(100, 80, BufferedImage.TYPE_INT_RGB, "png");
+        Product product = Product.builder().id(7).image(legacyImage).build();
+        ProductImageMetadata metadata = new ProductImageMetadata(7, "image/jpeg", "digest", LocalDateTime.now());
+
+        when(productImageRepositoryMock.findStoredMetadata(7, ImageRendition.FULL))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(metadata));
+        when(productImageRepositoryMock.findByProductId(7)).thenReturn(List.of());
+        when(productRepositoryMock.findById(7)).thenReturn(Optional.of(product));
+        when(imageStoreMock.put(any())).thenReturn("digest");
+
+        //when
+        Optional<ProductImageMetadata> result = productImageService.getImageMetadata(7, ImageRendition.FULL);
+
+        //then
+        assertThat(result).contains(metadata);
+        verify(imageStoreMock, times(ImageRendition.values().length)).put(any());
+        verify(productImageRepositoryMock, times(1)).saveAll(argThat((Iterable<ProductImage> renditions) -> {
+            renditions.forEach(rendition -> {
+                assertThat(rendition.getProductId()).isEqualTo(7);
+                assertThat(rendition.getData()).isNull();
+            });
+            return true;
+        }));
+        verify(productRepositoryMock, times(1)).clearImage(7);
+    }
+
+    @Test
+    void getImageMetadata_StoresOriginalForEveryRendition_LegacyImageCannotBeDecoded() {
+        //given
+        byte[] legacyImage = new byte[]{1, 2, 3};
+        Product product = Product.builder().id(7).image(legacyImage).imageContentType("image/webp").build();
+
+        when(productImageRepositoryMock.findByProductId(7)).thenReturn(List.of());
+        when(productRepositoryMock.findById(7)).thenReturn(Optional.of(product));
+        when(imageStoreMock.put(legacyImage)).thenReturn("digest");
+
+        //when
+        productImageService.getImageMetadata(7, ImageRendition.THUMBNAIL);
+
+        //then
+        verify(imageStoreMock, times(ImageRendition.values().length)).put(legacyImage);
+        verify(productImageRepositoryMock, times(1)).saveAll(argThat((Iterable<ProductImage> renditions) -> {
+            renditions.forEach(rendition -> assertThat(rendition.getContentType()).isEqualTo("image/webp"));
+            return true;
+        }));
+        verify(productRepositoryMock, times(1)).clearImage(7);
+    }
+
+    @Test
+    void getImageMetadata_MovesInlineRenditionsToImageStore_RenditionsStoredInDatabase() {
+        //given
+        byte[] data = new byte[]{4, 5, 6};
+        ProductImage inline = ProductImage.builder().productId(7).rendition(ImageRendition.CARD).data(data).build();
+
+        when(productImageRepositoryMock.findByProductId(7)).thenReturn(List.of(inline));
+        when(imageStoreMock.put(data)).thenReturn("digest");
+
+        //when
+        productImageService.getImageMetadata(7, ImageRendition.CARD);
+
+        //then
+        assertThat(inline.getData()).isNull();
+        assertThat(inline.getDigest()).isEqualTo("digest");
+        verify(productImageRepositoryMock, times(1)).saveAll(List.of(inline));
+        verify(productRepositoryMock, never()).findById(any());
+    }
+
+    @Test
+    void writeImage_ThrowsProductNotFoundException_ImageMissingFromStore() {
+        //given
+        when(imageStoreMock.transferTo(eq("digest"), any())).thenReturn(false);
+
+        //when & then
+        assertThrows(ProductNotFoundException.class,
+                () -> productImageService.writeImage("digest", OutputStream.nullOutputStream()));
+    }
+
+    private static byte[] createImage(int width, int height, int type, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.Gemora.unit.product.ProductTestHelper.createProductSummary;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class ProductPriceCatalogTest {
+    private ProductPriceCatalog productPriceCatalog;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        productPriceCatalog = new ProductPriceCatalog(productRepositoryMock);
+
+        when(productRepositoryMock.findAllSummaries(any(Sort.class))).thenReturn(List.of(
+                createProductSummary(1, "Golden ring", 100.0, "Rings", null),
+                createProductSummary(2, "Pearl necklace", 250.5, "Necklaces", null)));
+
+        productPriceCatalog.rebuild();
+    }
+
+    @Test
+    void priceOf_ReturnsSnapshotPrice_ProductExists() {
+        //when & then
+        assertThat(productPriceCatalog.priceOf(1)).isEqualTo(100.0);
+        assertThat(productPriceCatalog.priceOf(2)).isEqualTo(250.5);
+    }
+
+    @Test
+    void priceOf_ReturnsNaN_ProductDoesNotExist() {
+        //when & then
+        assertThat(productPriceCatalog.priceOf(3)).isNaN();
+    }
+
+    @Test
+    void onProductChanged_KeepsPricesInSync_ProductsCreatedUpdatedAndDeleted() {
+        //when
+        productPriceCatalog.onProductChanged(ProductChangedEvent.updated(createProductSummary(1, "Golden ring", 120.0, "Rings", null)));
+        productPriceCatalog.onProductChanged(ProductChangedEvent.deleted(2));
+        productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(3, "Silver bracelet", 80.0, "Bracelets", null)));
+
+        //then
+        assertThat(productPriceCatalog.priceOf(1)).isEqualTo(120.0);
+        assertThat(productPriceCatalog.priceOf(2)).isNaN();
+        assertThat(productPriceCatalog.priceOf(3)).isEqualTo(80.0);
+    }
+
+    @Test
+    void onProductChanged_GrowsTable_ManyProductsCreated() {
+        //given
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 100; id < 1100; id++) {
+            ids.add(id);
+            productPriceCatalog.onProductChanged(ProductChangedEvent.created(createProductSummary(id, "Product " + id, id / 2.0, "Rings", null)));
+        }
+
+        //when & then
+        assertThat(ids).allSatisfy(id -> assertThat(productPriceCatalog.priceOf(id)).isEqualTo(id / 2.0));
+        assertThat(productPriceCatalog.priceOf(1)).isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class ProductSearchIndexTest {
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        productSearchIndex = new ProductSearchIndex(productRepositoryMock);
+
+        when(productRepositoryMock.findAllSummaries(any(Sort.class))).thenReturn(List.of(
+                createProduct(1, "Golden ring", "Apart", "Classic ring with a diamond", 100),
+                createProduct(2, "Silver earrings", "Yes", "Elegant jewellery", 200),
+                createProduct(3, "Pearl pendant", "Ringo", "Pendant on a chain", 300)));
+
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void search_ReturnsProductsMatchingPrefix_QueryIsIncomplete() {
+        //when
+        List<Integer> result = productSearchIndex.search("gol", 10);
+
+        //then
+        assertThat(result).containsExactly(1);
+    }
+
+    @Test
+    void search_RanksNameMatchesAboveInfixAndOtherFieldMatches_QueryMatchesSeveralProducts() {
+        //when
+        List<Integer> result = productSearchIndex.search("ring", 10);
+
+        //then
+        assertThat(result).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    void search_MatchesAllQueryTerms_QueryHasSeveralWords() {
+        //when
+        List<Integer> result = productSearchIndex.search("PEARL chain", 10);
+
+        //then
+        assertThat(result).containsExactly(3);
+    }
+
+    @Test
+    void search_ReturnsEmptyList_QueryIsBlank() {
+        //when
+        List<Integer> result = productSearchIndex.search("  ", 10);
+
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void search_OrdersAllMatchesBeforeApplyingLimit_OrderProvided() {
+        //when
+        List<Integer> result = productSearchIndex.search("ring", 2, SortType.DESCENDING.toComparator());
+
+        //then
+        assertThat(result).containsExactly(3, 2);
+    }
+
+    @Test
+    void onProductChanged_ReindexesProduct_ProductUpdated() {
+        //when
+        productSearchIndex.onProductChanged(ProductChangedEvent.updated(createProduct(1, "Platinum bracelet", "Apart", "Bracelet", 100)));
+
+        //then
+        assertThat(productSearchIndex.search("golden", 10)).isEmpty();
+        assertThat(productSearchIndex.search("platinum", 10)).containsExactly(1);
+    }
+
+    @Test
+    void onProductChanged_RemovesProduct_ProductDeleted() {
+        //when
+        productSearchIndex.onProductChanged(ProductChangedEvent.deleted(2));
+
+        //then
+        assertThat(productSearchIndex.search("earrings", 10)).isEmpty();
+    }
+
+    private ProductSummary createProduct(int id, String name, String manufacturer, String description, double price) {
+        return ProductSummary.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .manufacturer(manufacturer)
+                .description(description)
+                .category("RINGS")
+                .build();
+    }
+}
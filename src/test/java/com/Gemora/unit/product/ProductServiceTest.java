@@ -2,6 +2,7 @@ package com.Gemora.unit.product;
 
 import com.gemora.GemoraApplication;
 import com.gemora.product.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +13,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -26,9 +31,22 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepositoryMock;
 
+    @Mock
+    private ProductSearchIndex productSearchIndexMock;
+
+    @Mock
+    private ProductSuggester productSuggesterMock;
+
+    @Mock
+    private ProductImageService productImageServiceMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
     @BeforeEach
     void init() {
-        productService = new ProductService(productRepositoryMock);
+        ProductCatalogCache productCatalogCache = new ProductCatalogCache(new SimpleMeterRegistry(), 100, 100, 600);
+        productService = new ProductService(productRepositoryMock, productCatalogCache, productSearchIndexMock, productSuggesterMock, productImageServiceMock, eventPublisherMock);
     }
 
     @Test
@@ -38,9 +56,9 @@ public class ProductServiceTest {
         String category = "RINGS";
         ProductDto expectedProductDto = createProductDto(productId, "Product name 1", 100, category);
 
-        Product product = createProduct(productId, "Product name 1", 100, category, null);
+        ProductSummary product = createProductSummary(productId, "Product name 1", 100, category, null);
 
-        when(productRepositoryMock.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepositoryMock.findSummaryById(productId)).thenReturn(Optional.of(product));
 
         //when
         Optional<ProductDto> productDtoOptional = productService.getProductById(productId);
@@ -55,7 +73,7 @@ public class ProductServiceTest {
         //given
         int productId = 100;
 
-        when(productRepositoryMock.findById(productId)).thenReturn(Optional.empty());
+        when(productRepositoryMock.findSummaryById(productId)).thenReturn(Optional.empty());
 
         //when
         Optional<ProductDto> productDto = productService.getProductById(productId);
@@ -73,15 +91,16 @@ public class ProductServiceTest {
         ProductDto productDto1 = createProductDto(1, "Product name 1", 100, category);
         ProductDto productDto2 = createProductDto(2, "Product name 2", 200, category);
 
-        List<Product> unsortedProducts = createMockedProducts();
+        List<ProductSummary> newestProducts = createMockedProducts();
+        Collections.reverse(newestProducts);
 
-        when(productRepositoryMock.findAll()).thenReturn(unsortedProducts);
+        when(productRepositoryMock.findAllSummaries(SortType.NEWEST.toSort())).thenReturn(newestProducts);
 
         //when
-        List<ProductDto> sortedProducts = productService.getAllProducts(sortType);
+        List<ProductDto> sortedProducts = productService.getAllProducts(sortType, null, null);
 
         //then
-        verify(productRepositoryMock, times(1)).findAll();
+        verify(productRepositoryMock, times(1)).findAllSummaries(SortType.NEWEST.toSort());
 
         assertThat(sortedProducts).hasSize(2);
         assertProductDtoEquals(productDto2, sortedProducts.get(0));
@@ -93,10 +112,10 @@ public class ProductServiceTest {
         //given
         String sortType = "newest";
 
-        when(productRepositoryMock.findAll()).thenReturn(Collections.emptyList());
+        when(productRepositoryMock.findAllSummaries(any(Sort.class))).thenReturn(Collections.emptyList());
 
         //when
-        List<ProductDto> products = productService.getAllProducts(sortType);
+        List<ProductDto> products = productService.getAllProducts(sortType, null, null);
 
         //then
         assertThat(products).isEmpty();
@@ -112,15 +131,15 @@ public class ProductServiceTest {
 
         String productCategoryValue = String.valueOf(productCategory);
 
-        Product product = createProduct(productId, productName, price, productCategoryValue, null);
+        ProductSummary product = createProductSummary(productId, productName, price, productCategoryValue, null);
         ProductDto productDto = createProductDto(productId, productName, price, productCategoryValue);
 
         List<ProductDto> expectedValue = List.of(productDto);
 
-        when(productRepositoryMock.findByCategory(productCategory.name())).thenReturn(List.of(product));
+        when(productRepositoryMock.findSummariesByCategory(eq(productCategory.name()), any(Sort.class))).thenReturn(List.of(product));
 
         //when
-        List<ProductDto> result = productService.getProductsByCategory(productCategoryValue);
+        List<ProductDto> result = productService.getProductsByCategory(productCategoryValue, null, null);
 
         //then
         assertIterableEquals(expectedValue, result);
@@ -134,7 +153,7 @@ public class ProductServiceTest {
         String message = "Unknown product category type: NonExistentCategory";
 
         //when & then
-        assertThrows(RuntimeException.class, () -> productService.getProductsByCategory(category), message);
+        assertThrows(RuntimeException.class, () -> productService.getProductsByCategory(category, null, null), message);
     }
 
     @Test
@@ -143,12 +162,12 @@ public class ProductServiceTest {
         String category = "RINGS";
         String sortType = "ascending";
 
-        List<Product> products = createMockedProducts();
+        List<ProductSummary> products = createMockedProducts();
 
-        when(productRepositoryMock.findByCategory(category)).thenReturn(products);
+        when(productRepositoryMock.findSummariesByCategory(category, SortType.ASCENDING.toSort())).thenReturn(products);
 
         //when
-        List<ProductDto> sortedProducts = productService.getSortedProducts(category, sortType);
+        List<ProductDto> sortedProducts = productService.getSortedProducts(category, sortType, null, null);
 
         //then
         assertThat(sortedProducts).isNotEmpty();
@@ -160,9 +179,9 @@ public class ProductServiceTest {
         //given
         String category = "FEATURED";
 
-        List<Product> products = createMockedProducts();
+        List<ProductSummary> products = createMockedProducts();
 
-        when(productRepositoryMock.findByCategory(category)).thenReturn(products);
+        when(productRepositoryMock.findSummariesByCategory(eq(category), any(Sort.class))).thenReturn(products);
 
         //when
         List<ProductDto> featuredProducts = productService.getFeaturedProducts();
@@ -177,7 +196,7 @@ public class ProductServiceTest {
         //given
         String category = "FEATURED";
 
-        when(productRepositoryMock.findByCategory(category)).thenReturn(Collections.emptyList());
+        when(productRepositoryMock.findSummariesByCategory(eq(category), any(Sort.class))).thenReturn(Collections.emptyList());
 
         //when
         List<ProductDto> featuredProducts = productService.getFeaturedProducts();
@@ -187,95 +206,169 @@ public class ProductServiceTest {
     }
 
     @Test
-    void sortProducts_ReturnsListOfSortedProducts_ProductsAreSortedAscending() {
+    void getSortedProducts_ReturnsRequestedPage_PageAndSizeProvided() {
         //given
+        String category = "RINGS";
+        String sortType = "descending";
+
+        when(productRepositoryMock.findSummariesByCategory(category, SortType.DESCENDING.toSort())).thenReturn(createMockedProducts());
+
+        //when
+        List<ProductDto> products = productService.getSortedProducts(category, sortType, 1, 1);
+
+        //then
+        assertThat(products).hasSize(1);
+        assertThat(products.get(0).getId()).isEqualTo(2);
+    }
+
+    @Test
+    void getSortedProducts_ServesRepeatedRequestsFromCache_CatalogUnchanged() {
+        //given
+        String category = "RINGS";
         String sortType = "ascending";
 
-        List<Product> products = createMockedProducts();
+        when(productRepositoryMock.findSummariesByCategory(category, SortType.ASCENDING.toSort())).thenReturn(createMockedProducts());
 
         //when
-        productService.sortProducts(products, sortType);
+        productService.getSortedProducts(category, sortType, null, null);
+        List<ProductDto> products = productService.getSortedProducts(category, sortType, 0, 1);
 
         //then
-        assertEquals(100, products.get(0).getPrice());
-        assertEquals(200, products.get(1).getPrice());
+        assertThat(products).hasSize(1);
+        verify(productRepositoryMock, times(1)).findSummariesByCategory(category, SortType.ASCENDING.toSort());
     }
 
     @Test
-    void sortProducts_ReturnsListOfSortedProducts_ProductsAreSortedDescending() {
+    void getAllProducts_ThrowIllegalArgumentException_PageSizeIsNotPositive() {
         //given
-        String sortType = "descending";
+        String sortType = "ascending";
+
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> productService.getAllProducts(sortType, 0, 0));
+    }
 
-        List<Product> products = createMockedProducts();
+    @Test
+    void scrollProducts_ReturnsNextCursor_MoreProductsAvailable() {
+        //given
+        String sortType = "ascending";
+
+        when(productRepositoryMock.findSummariesAfter(null, SortType.ASCENDING, null, 2)).thenReturn(createMockedProducts());
 
         //when
-        productService.sortProducts(products, sortType);
+        ProductScrollResponse response = productService.scrollProducts(null, sortType, null, 1);
 
         //then
-        assertEquals(200, products.get(0).getPrice());
-        assertEquals(100, products.get(1).getPrice());
+        assertThat(response.getProducts()).hasSize(1);
+        assertThat(response.getNextCursor()).isNotNull();
+
+        ProductCursor cursor = ProductCursor.decode(response.getNextCursor(), SortType.ASCENDING);
+        assertThat(cursor.getId()).isEqualTo(1);
+        assertThat(cursor.getPrice()).isEqualTo(100.0);
     }
 
     @Test
-    void sortProducts_ReturnsListOfSortedProducts_ProductsAreSortedByNewest() {
+    void scrollProducts_ReturnsNoCursor_LastPageReached() {
         //given
+        String category = "RINGS";
         String sortType = "newest";
+        ProductCursor cursor = new ProductCursor(SortType.NEWEST, null, LocalDateTime.now(), 5);
 
-        List<Product> products = createMockedProducts();
+        when(productRepositoryMock.findSummariesAfter(category, SortType.NEWEST, cursor, 21)).thenReturn(createMockedProducts());
 
         //when
-        productService.sortProducts(products, sortType);
+        ProductScrollResponse response = productService.scrollProducts(category, sortType, cursor.encode(), null);
 
         //then
-        assertTrue(products.get(0).getPostingDate().isAfter(products.get(1).getPostingDate()));
+        assertThat(response.getProducts()).hasSize(2);
+        assertThat(response.getNextCursor()).isNull();
     }
 
     @Test
-    void sortProducts_ThrowRuntimeExceptionException_SortTypeIsUnsupported() {
+    void scrollProducts_ThrowIllegalArgumentException_CursorBelongsToOtherSortType() {
         //given
-        String sortType = "unsupportedSortType";
-        String message = "Unknown sort type: unsupportedSortType";
-
-        List<Product> products = createMockedProducts();
+        String cursor = new ProductCursor(SortType.NEWEST, null, LocalDateTime.now(), 5).encode();
 
         //when & then
-        assertThrows(RuntimeException.class, () -> productService.sortProducts(products, sortType), message);
+        assertThrows(IllegalArgumentException.class, () -> productService.scrollProducts(null, "ascending", cursor, 10));
+        verify(productRepositoryMock, never()).findSummariesAfter(any(), any(), any(), anyInt());
     }
 
     @Test
-    void sortProducts_ReturnsSortedProducts_ProductListIsEmptyList() {
+    void createProduct_ProductRequestWasPassed_SaveWasCalledOnce() {
         //given
-        String sortType = "ascending";
+        ProductRequest productRequest = createProductRequest();
 
-        List<Product> products = new ArrayList<>();
+        //when
+        productService.createProduct(productRequest);
+
+        //then
+        verify(productRepositoryMock, times(1)).save(any());
+    }
+
+    @Test
+    void createProduct_StoresImageDigestAndContentType_ProductRequestWasPassed() {
+        //given
+        ProductRequest productRequest = createProductRequest();
+        byte[] image = Base64.getDecoder().decode(productRequest.getImage());
 
         //when
-        productService.sortProducts(products, sortType);
+        productService.createProduct(productRequest);
 
         //then
-        assertTrue(products.isEmpty());
+        verify(productRepositoryMock, times(1)).save(argThat(product ->
+                ProductImageHelper.digest(image).equals(product.getImageDigest())
+                        && product.getImageContentType() != null
+                        && product.getImageUpdatedAt() != null));
     }
 
     @Test
-    void sortProducts_ReturnsSortedProducts_ProductListContainsOneProduct() {
+    void createProduct_StoresImageDigestFromStream_UploadedImageWasPassed() {
         //given
-        String sortType = "ascending";
-        String category = "BRACELETS";
+        ProductDetails productDetails = createProductDetails();
+        ByteArrayResource image = new ByteArrayResource(new byte[]{4, 5, 6});
 
-        Product product = createProduct(1, "Product name 1", 100, category, null);
+        //when
+        productService.createProduct(productDetails, image);
 
-        List<Product> products = new ArrayList<>();
-        products.add(product);
+        //then
+        verify(productImageServiceMock, times(1)).createRenditions(image);
+        verify(productRepositoryMock, times(1)).save(argThat(product ->
+                ProductImageHelper.digest(image.getByteArray()).equals(product.getImageDigest())
+                        && productDetails.getName().equals(product.getName())));
+    }
+
+    @Test
+    void createProduct_StoresRenditionsForSavedProduct_ProductRequestWasPassed() {
+        //given
+        ProductRequest productRequest = createProductRequest();
+        ProductImage thumbnail = ProductImage.builder().rendition(ImageRendition.THUMBNAIL).contentType("image/jpeg").build();
+        ProductImage full = ProductImage.builder().rendition(ImageRendition.FULL).contentType("image/jpeg").build();
+
+        when(productImageServiceMock.createRenditions(any())).thenReturn(Map.of(ImageRendition.THUMBNAIL, thumbnail, ImageRendition.FULL, full));
 
         //when
-        productService.sortProducts(products, sortType);
+        productService.createProduct(productRequest);
 
         //then
-        assertEquals(product, products.get(0));
+        verify(productRepositoryMock, times(1)).save(argThat(product ->
+                "image/jpeg".equals(product.getImageContentType()) && product.getImage() == null));
+        verify(productImageServiceMock, times(1)).replaceRenditions(any(), argThat(renditions -> renditions.size() == 2));
     }
 
     @Test
-    void createProduct_ProductRequestWasPassed_SaveWasCalledOnce() {
+    void createProduct_ThrowsInvalidProductImageException_ImageCannotBeDecoded() {
+        //given
+        ProductRequest productRequest = createProductRequest();
+
+        when(productImageServiceMock.createRenditions(any())).thenThrow(new InvalidProductImageException("Product image format is not supported."));
+
+        //when & then
+        assertThrows(InvalidProductImageException.class, () -> productService.createProduct(productRequest));
+        verify(productRepositoryMock, never()).save(any());
+    }
+
+    @Test
+    void createProduct_PublishesProductChangedEvent_ProductRequestWasPassed() {
         //given
         ProductRequest productRequest = createProductRequest();
 
@@ -283,7 +376,9 @@ public class ProductServiceTest {
         productService.createProduct(productRequest);
 
         //then
-        verify(productRepositoryMock, times(1)).save(any());
+        verify(eventPublisherMock, times(1)).publishEvent(argThat((Object event) -> event instanceof ProductChangedEvent changedEvent
+                && changedEvent.getType() == ProductChangedEvent.ChangeType.CREATED
+                && productRequest.getName().equals(changedEvent.getProduct().getName())));
     }
 
     @Test
@@ -293,30 +388,44 @@ public class ProductServiceTest {
 
         ProductRequest productRequest = createProductRequest();
 
-        when(productRepositoryMock.findProductByName(productName)).thenReturn(Optional.of(new Product()));
+        when(productRepositoryMock.existsByName(productName)).thenReturn(true);
 
         //when & then
         assertThrows(ProductAlreadyExistsException.class, () -> productService.createProduct(productRequest));
 
-        verify(productRepositoryMock, times(1)).findProductByName(productName);
+        verify(productRepositoryMock, times(1)).existsByName(productName);
         verify(productRepositoryMock, never()).save(any());
     }
 
+    @Test
+    void createProduct_ThrowProductAlreadyExistsException_UniqueNameViolatedConcurrently() {
+        //given
+        ProductRequest productRequest = createProductRequest();
+
+        when(productRepositoryMock.save(any())).thenThrow(new DataIntegrityViolationException("uk_product_name"));
+
+        //when & then
+        assertThrows(ProductAlreadyExistsException.class, () -> productService.createProduct(productRequest));
+
+        verify(productImageServiceMock, never()).replaceRenditions(any(), any());
+        verify(eventPublisherMock, never()).publishEvent(any());
+    }
+
     @Test
     void deleteProductById_DeletesProduct_WhenProductExists() {
         //given
         int productId = 100;
-        String category = "FEATURED";
-
-        Product product = createProduct(productId, "Product name 1", 100, category, null);
 
-        when(productRepositoryMock.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepositoryMock.deleteProductById(productId)).thenReturn(1);
 
         //when
         productService.deleteProductById(productId);
 
         //then
-        verify(productRepositoryMock, times(1)).deleteById(productId);
+        verify(productRepositoryMock, times(1)).deleteProductById(productId);
+        verify(productRepositoryMock, never()).findById(any());
+        verify(productImageServiceMock, times(1)).deleteRenditions(productId);
+        verify(eventPublisherMock, times(1)).publishEvent(any(ProductChangedEvent.class));
     }
 
     @Test
@@ -324,32 +433,89 @@ public class ProductServiceTest {
         //given
         int nonExistingProductId = 1000;
 
-        when(productRepositoryMock.findById(nonExistingProductId)).thenReturn(Optional.empty());
+        when(productRepositoryMock.deleteProductById(nonExistingProductId)).thenReturn(0);
 
         //when & then
         assertThrows(ProductNotFoundException.class, () -> productService.deleteProductById(nonExistingProductId));
 
-        verify(productRepositoryMock, times(1)).findById(nonExistingProductId);
-        verify(productRepositoryMock, never()).deleteById(any());
+        verify(productImageServiceMock, never()).deleteRenditions(any());
+        verify(eventPublisherMock, never()).publishEvent(any());
     }
 
     @Test
-    void updateProductById_UpdatesProduct_ValidProductData() {
+    void updateProductById_UpdatesProductInSingleStatement_ValidProductData() {
         //given
         int productId = 1;
 
         ProductRequest productRequest = createProductRequest();
+        ProductSummary updatedProduct = createProductSummary(productId, productRequest.getName(), productRequest.getPrice(), productRequest.getCategory(), null);
 
-        Product productToUpdate = new Product(productId, productRequest.getName(), productRequest.getPrice(), productRequest.getManufacturer(),
-                productRequest.getDescription(), productRequest.getCategory(), productRequest.getImage().getBytes(), LocalDateTime.now());
-
-        when(productRepositoryMock.findById(productId)).thenReturn(Optional.of(productToUpdate));
+        when(productRepositoryMock.updateDetails(productId, productRequest.getName(), productRequest.getPrice(),
+                productRequest.getManufacturer(), productRequest.getDescription(), productRequest.getCategory())).thenReturn(1);
+        when(productRepositoryMock.findSummaryById(productId)).thenReturn(Optional.of(updatedProduct));
 
         //when
         productService.updateProductById(productId, productRequest);
 
         //then
-        verify(productRepositoryMock, times(1)).save(productToUpdate);
+        verify(productRepositoryMock, never()).findById(any());
+        verify(productRepositoryMock, never()).save(any());
+        verify(productRepositoryMock, times(1)).updateImage(eq(productId), any(), any(), any());
+        verify(eventPublisherMock, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof ProductChangedEvent changedEvent && changedEvent.getProduct() == updatedProduct));
+    }
+
+    @Test
+    void updateProductById_KeepsCurrentImage_ImageNotProvided() {
+        //given
+        int productId = 1;
+        ProductDetails productDetails = createProductDetails();
+
+        when(productRepositoryMock.updateDetails(productId, productDetails.getName(), productDetails.getPrice(),
+                productDetails.getManufacturer(), productDetails.getDescription(), productDetails.getCategory())).thenReturn(1);
+
+        //when
+        productService.updateProductById(productId, productDetails, null);
+
+        //then
+        verify(productRepositoryMock, never()).updateImage(any(), any(), any(), any());
+        verify(productImageServiceMock, never()).createRenditions(any());
+        verify(productImageServiceMock, never()).replaceRenditions(anyInt(), any());
+    }
+
+    @Test
+    void updateProductById_SkipsImageProcessing_ImageUnchanged() {
+        //given
+        int productId = 1;
+        ProductDetails productDetails = createProductDetails();
+        ByteArrayResource image = new ByteArrayResource(new byte[]{7, 8, 9});
+
+        when(productRepositoryMock.updateDetails(productId, productDetails.getName(), productDetails.getPrice(),
+                productDetails.getManufacturer(), productDetails.getDescription(), productDetails.getCategory())).thenReturn(1);
+        when(productRepositoryMock.findImageDigestById(productId)).thenReturn(Optional.of(ProductImageHelper.digest(image.getByteArray())));
+
+        //when
+        productService.updateProductById(productId, productDetails, image);
+
+        //then
+        verify(productRepositoryMock, never()).updateImage(any(), any(), any(), any());
+        verify(productImageServiceMock, never()).createRenditions(any());
+    }
+
+    @Test
+    void updateProductById_ThrowProductAlreadyExistsException_NameTakenByOtherProduct() {
+        //given
+        int productId = 1;
+        ProductDetails productDetails = createProductDetails();
+
+        when(productRepositoryMock.updateDetails(productId, productDetails.getName(), productDetails.getPrice(),
+                productDetails.getManufacturer(), productDetails.getDescription(), productDetails.getCategory()))
+                .thenThrow(new DataIntegrityViolationException("uk_product_name"));
+
+        //when & then
+        assertThrows(ProductAlreadyExistsException.class, () -> productService.updateProductById(productId, productDetails, null));
+
+        verify(eventPublisherMock, never()).publishEvent(any());
     }
 
     @Test
@@ -359,14 +525,12 @@ public class ProductServiceTest {
 
         ProductRequest productRequest = createProductRequest();
 
-        when(productRepositoryMock.findById(nonExistingProductId)).thenReturn(Optional.empty());
-
         //when
         assertThrows(ProductNotFoundException.class, () -> productService.updateProductById(nonExistingProductId, productRequest));
 
         //then
-        verify(productRepositoryMock, times(1)).findById(nonExistingProductId);
-        verify(productRepositoryMock, never()).save(any());
+        verify(productImageServiceMock, never()).createRenditions(any());
+        verify(eventPublisherMock, never()).publishEvent(any());
     }
 
     @Test
@@ -375,15 +539,33 @@ public class ProductServiceTest {
         String searchTerm = "Product";
         String sortType = "newest";
 
-        List<Product> products = createMockedProducts();
+        List<ProductSummary> products = createMockedProducts();
 
-        when(productRepositoryMock.findProductByNameContainingIgnoreCase(searchTerm)).thenReturn(products);
+        when(productSearchIndexMock.search(eq(searchTerm), eq(100), any())).thenReturn(List.of(2, 1));
+        when(productRepositoryMock.findSummariesByIdIn(List.of(2, 1))).thenReturn(products);
 
         //when
         List<ProductDto> actualProducts = productService.getProductBySearchTerm(searchTerm, sortType);
 
         //then
         assertEquals(products.size(), actualProducts.size());
+        assertThat(actualProducts.get(0).getId()).isEqualTo(2);
+        verify(productSearchIndexMock, never()).search(searchTerm, 100);
+    }
+
+    @Test
+    void getProductBySearchTerm_KeepsRelevanceOrder_SortTypeNotProvided() {
+        //given
+        String searchTerm = "Product";
+
+        when(productSearchIndexMock.search(searchTerm, 100)).thenReturn(List.of(2, 1));
+        when(productRepositoryMock.findSummariesByIdIn(List.of(2, 1))).thenReturn(createMockedProducts());
+
+        //when
+        List<ProductDto> actualProducts = productService.getProductBySearchTerm(searchTerm, null);
+
+        //then
+        assertThat(actualProducts).extracting(ProductDto::getId).containsExactly(2, 1);
     }
 
     @Test
@@ -392,13 +574,31 @@ public class ProductServiceTest {
         String searchTerm = "nonExistingSearchTerm";
         String sortType = "descending";
 
-        when(productRepositoryMock.findProductByNameContainingIgnoreCase(searchTerm)).thenReturn(Collections.emptyList());
+        when(productSearchIndexMock.search(eq(searchTerm), eq(100), any())).thenReturn(Collections.emptyList());
 
         //when
         List<ProductDto> actualProducts = productService.getProductBySearchTerm(searchTerm, sortType);
 
         //then
         assertEquals(0, actualProducts.size());
+        verify(productRepositoryMock, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void getSuggestions_CapsLimitAtConfiguredMaximum_LimitTooLarge() {
+        //given
+        String prefix = "gol";
+        List<ProductSuggestion> expectedSuggestions = List.of(
+                new ProductSuggestion("Golden ring", ProductSuggestion.SuggestionType.NAME));
+
+        when(productSuggesterMock.suggest(prefix, 10)).thenReturn(expectedSuggestions);
+
+        //when
+        List<ProductSuggestion> actualSuggestions = productService.getSuggestions(prefix, 500);
+
+        //then
+        assertEquals(expectedSuggestions, actualSuggestions);
+        verify(productSuggesterMock).suggest(prefix, 10);
     }
 
     private void assertProductDtoEquals(ProductDto expected, ProductDto actual) {
@@ -408,17 +608,17 @@ public class ProductServiceTest {
         assertThat(actual.getManufacturer()).isEqualTo(expected.getManufacturer());
         assertThat(actual.getDescription()).isEqualTo(expected.getDescription());
         assertThat(actual.getCategory()).isEqualTo(expected.getCategory());
-        assertThat(actual.getImage()).isEqualTo(expected.getImage());
+        assertThat(actual.getImageUrl()).isEqualTo(expected.getImageUrl());
     }
 
-    private List<Product> createMockedProducts() {
+    private List<ProductSummary> createMockedProducts() {
         LocalDateTime date = LocalDateTime.now();
         String category = "FEATURED";
 
-        Product product1 = createProduct(1, "Product name 1", 100, category, date.minusDays(1));
-        Product product2 = createProduct(2, "Product name 2", 200, category, date);
+        ProductSummary product1 = createProductSummary(1, "Product name 1", 100, category, date.minusDays(1));
+        ProductSummary product2 = createProductSummary(2, "Product name 2", 200, category, date);
 
-        List<Product> products = new ArrayList<>();
+        List<ProductSummary> products = new ArrayList<>();
         products.add(product1);
         products.add(product2);
         return products;
@@ -0,0 +1,141 @@
+package com.Gemora.unit.product;
+
+import com.gemora.GemoraApplication;
+import com.gemora.product.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class ProductSuggesterTest {
+    private ProductSuggester productSuggester;
+
+    @Mock
+    private ProductRepository productRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        productSuggester = new ProductSuggester(productRepositoryMock, 3, 32, Runnable::run);
+
+        when(productRepositoryMock.findAllSummaries(any(Sort.class))).thenReturn(List.of(
+                createProduct(1, "Golden ring", "Apart"),
+                createProduct(2, "Gold necklace", "Apart"),
+                createProduct(3, "Pearl pendant", "Goldie"),
+                createProduct(4, "\u00c9merald brooch", "Yes")));
+
+        productSuggester.rebuild();
+    }
+
+    @Test
+    void suggest_ReturnsNamesAndManufacturersStartingWithPrefix_PrefixMatches() {
+        //when
+        List<ProductSuggestion> result = productSuggester.suggest("gol", 10);
+
+        //then
+        assertThat(result).containsExactly(
+                new ProductSuggestion("Gold necklace", ProductSuggestion.SuggestionType.NAME),
+                new ProductSuggestion("Golden ring", ProductSuggestion.SuggestionType.NAME),
+                new ProductSuggestion("Goldie", ProductSuggestion.SuggestionType.MANUFACTURER));
+    }
+
+    @Test
+    void suggest_RanksSharedManufacturerFirst_ManufacturerHasSeveralProducts() {
+        //when
+        List<ProductSuggestion> result = productSuggester.suggest("a", 10);
+
+        //then
+        assertThat(result).first().isEqualTo(new ProductSuggestion("Apart", ProductSuggestion.SuggestionType.MANUFACTURER));
+    }
+
+    @Test
+    void suggest_MatchesLaterWordsIgnoringCaseAndDiacritics_PrefixIsNotAtStart() {
+        //when
+        List<ProductSuggestion> ringResult = productSuggester.suggest("RIN", 10);
+        List<ProductSuggestion> emeraldResult = productSuggester.suggest("emer", 10);
+
+        //then
+        assertThat(ringResult).containsExactly(new ProductSuggestion("Golden ring", ProductSuggestion.SuggestionType.NAME));
+        assertThat(emeraldResult).containsExactly(new ProductSuggestion("\u00c9merald brooch", ProductSuggestion.SuggestionType.NAME));
+    }
+
+    @Test
+    void suggest_ReturnsAtMostLimitSuggestions_LimitIsSmallerThanMatches() {
+        //when
+        List<ProductSuggestion> result = productSuggester.suggest("g", 1);
+
+        //then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    void suggest_ReturnsEmptyList_NoMatchOrBlankPrefix() {
+        //when
+        List<ProductSuggestion> noMatchResult = productSuggester.suggest("xyz", 10);
+        List<ProductSuggestion> blankResult = productSuggester.suggest(" ", 10);
+
+        //then
+        assertThat(noMatchResult).isEmpty();
+        assertThat(blankResult).isEmpty();
+    }
+
+    @Test
+    void onProductChanged_ReplacesSuggestions_ProductUpdated() {
+        //when
+        productSuggester.onProductChanged(ProductChangedEvent.updated(createProduct(3, "Silver pendant", "Yes")));
+
+        //then
+        assertThat(productSuggester.suggest("goldie", 10)).isEmpty();
+        assertThat(productSuggester.suggest("silver", 10))
+                .containsExactly(new ProductSuggestion("Silver pendant", ProductSuggestion.SuggestionType.NAME));
+    }
+
+    @Test
+    void onProductChanged_DefersTrieRebuildToExecutor_ProductUpdated() {
+        //given
+        List<Runnable> rebuilds = new ArrayList<>();
+        productSuggester = new ProductSuggester(productRepositoryMock, 3, 32, rebuilds::add);
+        productSuggester.rebuild();
+
+        //when
+        productSuggester.onProductChanged(ProductChangedEvent.updated(createProduct(3, "Silver pendant", "Yes")));
+        productSuggester.onProductChanged(ProductChangedEvent.deleted(4));
+
+        //then
+        assertThat(rebuilds).hasSize(1);
+        assertThat(productSuggester.suggest("silver", 10)).isEmpty();
+
+        rebuilds.get(0).run();
+        assertThat(productSuggester.suggest("silver", 10))
+                .containsExactly(new ProductSuggestion("Silver pendant", ProductSuggestion.SuggestionType.NAME));
+        assertThat(productSuggester.suggest("emerald", 10)).isEmpty();
+    }
+
+    @Test
+    void onProductChanged_RemovesSuggestions_ProductDeleted() {
+        //when
+        productSuggester.onProductChanged(ProductChangedEvent.deleted(4));
+
+        //then
+        assertThat(productSuggester.suggest("emerald", 10)).isEmpty();
+        assertThat(productSuggester.suggest("yes", 10)).isEmpty();
+    }
+
+    private ProductSummary createProduct(int id, String name, String manufacturer) {
+        return ProductSummary.builder()
+                .id(id)
+                .name(name)
+                .manufacturer(manufacturer)
+                .description("Description")
+                .category("RINGS")
+                .build();
+    }
+}
@@ -1,15 +1,18 @@
 package com.Gemora.unit.product;
 
 import com.gemora.product.Product;
+import com.gemora.product.ProductDetails;
 import com.gemora.product.ProductDto;
 import com.gemora.product.ProductRequest;
+import com.gemora.product.ProductSummary;
 
 import java.time.LocalDateTime;
 import java.util.Base64;
 
 public class ProductTestHelper {
-    private static final byte[] IMAGE_BYTES = new byte[]{1, 2, 3};
-    private static final String BASE64_ENCODED_IMAGE = Base64.getEncoder().encodeToString(IMAGE_BYTES);
+    private static final String BASE64_ENCODED_IMAGE =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg==";
+    private static final byte[] IMAGE_BYTES = Base64.getDecoder().decode(BASE64_ENCODED_IMAGE);
 
     public static ProductRequest createProductRequest() {
         return ProductRequest.builder()
@@ -22,14 +25,40 @@ public class ProductTestHelper {
                 .build();
     }
 
+    public static ProductDetails createProductDetails() {
+        return ProductDetails.builder()
+                .name("Product name")
+                .price(100)
+                .category("RINGS")
+                .description("Product description")
+                .manufacturer("Product manufacturer")
+                .build();
+    }
+
     public static ProductDto createProductDto(int id, String productName, double price, String category) {
-        return new ProductDto(id, productName, price, "Product manufacturer", "Product description", category, BASE64_ENCODED_IMAGE);
+        return new ProductDto(id, productName, price, "Product manufacturer", "Product description", category, "/api/products/" + id + "/image?rendition=thumbnail");
     }
 
     public static Product createProduct(int id, String productName, double price, String category, LocalDateTime date) {
         if (date == null) {
             date = LocalDateTime.now();
         }
-        return new Product(id, productName, price, "Product manufacturer", "Product description", category, IMAGE_BYTES, date);
+        return Product.builder()
+                .id(id)
+                .name(productName)
+                .price(price)
+                .manufacturer("Product manufacturer")
+                .description("Product description")
+                .category(category)
+                .image(IMAGE_BYTES)
+                .postingDate(date)
+                .build();
+    }
+
+    public static ProductSummary createProductSummary(int id, String productName, double price, String category, LocalDateTime date) {
+        if (date == null) {
+            date = LocalDateTime.now();
+        }
+        return new ProductSummary(id, productName, price, "Product manufacturer", "Product description", category, date);
     }
 }
@@ -0,0 +1,144 @@
+package com.Gemora.unit.statistics;
+
+import com.gemora.GemoraApplication;
+import com.gemora.order.Order;
+import com.gemora.order.OrderSavedEvent;
+import com.gemora.order.OrderSimplifiedProduct;
+import com.gemora.statistics.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class SalesStatisticsServiceTest {
+    private SalesStatisticsService salesStatisticsService;
+
+    @Mock
+    private SalesStatisticsRepository salesStatisticsRepositoryMock;
+
+    @BeforeEach
+    void init() {
+        salesStatisticsService = new SalesStatisticsService(salesStatisticsRepositoryMock);
+
+        when(salesStatisticsRepositoryMock.findMaxOrderId()).thenReturn(4);
+        when(salesStatisticsRepositoryMock.findDailySales(4)).thenReturn(List.of(
+                new DailySales(LocalDate.of(2024, 1, 29), 100.0, 1L),
+                new DailySales(LocalDate.of(2024, 1, 31), 300.0, 2L),
+                new DailySales(LocalDate.of(2024, 2, 1), 200.0, 1L)));
+        when(salesStatisticsRepositoryMock.findProductSales(4)).thenReturn(List.of(
+                new ProductSales(1, "Golden ring", 5L),
+                new ProductSales(2, "Pearl necklace", 2L),
+                new ProductSales(3, "Silver bracelet", 7L)));
+
+        salesStatisticsService.rebuild();
+    }
+
+    @Test
+    void getRevenue_GroupsDailyRollupsIntoWeeks_WeekPeriod() {
+        //when
+        List<RevenueBucket> revenue = salesStatisticsService.getRevenue(StatisticsPeriod.WEEK, null, null);
+
+        //then
+        assertThat(revenue).containsExactly(new RevenueBucket(LocalDate.of(2024, 1, 29), 600.0, 4));
+    }
+
+    @Test
+    void getRevenue_GroupsDailyRollupsIntoMonthsWithinRange_MonthPeriodWithRange() {
+        //when
+        List<RevenueBucket> revenue = salesStatisticsService.getRevenue(
+                StatisticsPeriod.MONTH, LocalDate.of(2024, 1, 30), LocalDate.of(2024, 2, 28));
+
+        //then
+        assertThat(revenue).containsExactly(
+                new RevenueBucket(LocalDate.of(2024, 1, 1), 300.0, 2),
+                new RevenueBucket(LocalDate.of(2024, 2, 1), 200.0, 1));
+    }
+
+    @Test
+    void getRevenue_ThrowsIllegalArgumentException_StartDateAfterEndDate() {
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> salesStatisticsService.getRevenue(
+                StatisticsPeriod.DAY, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void getTopProducts_ReturnsProductsByQuantityDescending_LimitSmallerThanProductCount() {
+        //when
+        List<ProductSales> topProducts = salesStatisticsService.getTopProducts(2);
+
+        //then
+        assertThat(topProducts).containsExactly(
+                new ProductSales(3, "Silver bracelet", 7L),
+                new ProductSales(1, "Golden ring", 5L));
+    }
+
+    @Test
+    void getAverageOrderValue_ReturnsRevenueDividedByOrderCount_NoRange() {
+        //when
+        AverageOrderValue averageOrderValue = salesStatisticsService.getAverageOrderValue(null, null);
+
+        //then
+        assertThat(averageOrderValue).isEqualTo(new AverageOrderValue(600.0, 4, 150.0));
+    }
+
+    @Test
+    void onOrderSaved_UpdatesRollupsIncrementally_OrderSaved() {
+        //given
+        Order order = Order.builder()
+                .id(10)
+                .orderDateTime(LocalDateTime.of(2024, 2, 1, 12, 0))
+                .totalAmount(400.0)
+                .products(List.of(new OrderSimplifiedProduct(2, "Pearl necklace", 6, 50.0)))
+                .build();
+
+        //when
+        salesStatisticsService.onOrderSaved(new OrderSavedEvent(order));
+
+        //then
+        assertThat(salesStatisticsService.getRevenue(StatisticsPeriod.DAY, LocalDate.of(2024, 2, 1), null))
+                .containsExactly(new RevenueBucket(LocalDate.of(2024, 2, 1), 600.0, 2));
+        assertThat(salesStatisticsService.getTopProducts(1))
+                .containsExactly(new ProductSales(2, "Pearl necklace", 8L));
+        assertThat(salesStatisticsService.getAverageOrderValue(null, null))
+                .isEqualTo(new AverageOrderValue(1000.0, 5, 200.0));
+    }
+
+    @Test
+    void onOrderSaved_CountsOrderOnce_OrderSavedWhileRebuildIsRunning() throws InterruptedException {
+        //given
+        Order countedByRebuild = Order.builder()
+                .id(5)
+                .orderDateTime(LocalDateTime.of(2024, 2, 1, 12, 0))
+                .totalAmount(400.0)
+                .products(List.of(new OrderSimplifiedProduct(2, "Pearl necklace", 6, 50.0)))
+                .build();
+        Thread[] eventThread = new Thread[1];
+
+        when(salesStatisticsRepositoryMock.findMaxOrderId()).thenReturn(5);
+        when(salesStatisticsRepositoryMock.findDailySales(5)).thenAnswer(invocation -> {
+            eventThread[0] = new Thread(() -> salesStatisticsService.onOrderSaved(new OrderSavedEvent(countedByRebuild)));
+            eventThread[0].start();
+            return List.of(new DailySales(LocalDate.of(2024, 2, 1), 600.0, 2L));
+        });
+        when(salesStatisticsRepositoryMock.findProductSales(5)).thenReturn(List.of(new ProductSales(2, "Pearl necklace", 8L)));
+
+        //when
+        salesStatisticsService.rebuild();
+        eventThread[0].join();
+
+        //then
+        assertThat(salesStatisticsService.getAverageOrderValue(null, null))
+                .isEqualTo(new AverageOrderValue(600.0, 2, 300.0));
+        assertThat(salesStatisticsService.getTopProducts(1))
+                .containsExactly(new ProductSales(2, "Pearl necklace", 8L));
+    }
+}
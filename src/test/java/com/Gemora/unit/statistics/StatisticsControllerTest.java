@@ -0,0 +1,82 @@
+package com.Gemora.unit.statistics;
+
+import com.gemora.GemoraApplication;
+import com.gemora.statistics.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = GemoraApplication.class)
+public class StatisticsControllerTest {
+    private StatisticsController statisticsController;
+
+    @Mock
+    private SalesStatisticsService salesStatisticsService;
+
+    @BeforeEach
+    void init() {
+        statisticsController = new StatisticsController(salesStatisticsService);
+    }
+
+    @Test
+    void getRevenue_ReturnsOkStatusAndBuckets_RevenueAvailable() {
+        //given
+        List<RevenueBucket> expectedRevenue = List.of(new RevenueBucket(LocalDate.of(2024, 1, 1), 100.0, 1));
+
+        when(salesStatisticsService.getRevenue(StatisticsPeriod.MONTH, null, null)).thenReturn(expectedRevenue);
+
+        //when
+        ResponseEntity<List<RevenueBucket>> response = statisticsController.getRevenue("month", null, null);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedRevenue, response.getBody());
+    }
+
+    @Test
+    void getRevenue_ReturnsBadRequestStatus_UnknownPeriod() {
+        //when
+        ResponseEntity<List<RevenueBucket>> response = statisticsController.getRevenue("year", null, null);
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(salesStatisticsService);
+    }
+
+    @Test
+    void getTopProducts_ReturnsNotFoundStatus_NoProductsSold() {
+        //given
+        when(salesStatisticsService.getTopProducts(10)).thenReturn(Collections.emptyList());
+
+        //when
+        ResponseEntity<List<ProductSales>> response = statisticsController.getTopProducts(10);
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getAverageOrderValue_ReturnsOkStatusAndAverage_OrdersExist() {
+        //given
+        AverageOrderValue expected = new AverageOrderValue(300.0, 2, 150.0);
+
+        when(salesStatisticsService.getAverageOrderValue(null, null)).thenReturn(expected);
+
+        //when
+        ResponseEntity<AverageOrderValue> response = statisticsController.getAverageOrderValue(null, null);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+}